@@ -0,0 +1,70 @@
+package com.cooksys.ftd.assignments.control;
+
+import java.math.BigInteger;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fills a range of a `BigInteger` slice of the Fibonacci sequence on a fork-join pool.
+ * <p>
+ * Ranges larger than the threshold are split in half and filled concurrently. Each leaf range is seeded
+ * independently at its own first index by fast doubling and then filled by repeated addition, so no leaf has to
+ * wait for the elements of another one.
+ */
+class BigFibonacciSliceTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    private final BigInteger[] slice;
+    private final int offset;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    /**
+     * @param slice     the array to fill, whose first element is the element at index `offset`
+     * @param offset    the index of the element stored at the start of the array
+     * @param from      the first index to fill (inclusive)
+     * @param to        the last index to fill (exclusive)
+     * @param threshold the largest range that is filled without splitting it any further
+     */
+    BigFibonacciSliceTask(BigInteger[] slice, int offset, int from, int to, int threshold) {
+        this.slice = slice;
+        this.offset = offset;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= threshold) {
+            fill(slice, offset, from, to);
+        } else {
+            int middle = from + (to - from) / 2;
+            invokeAll(new BigFibonacciSliceTask(slice, offset, from, middle, threshold),
+                    new BigFibonacciSliceTask(slice, offset, middle, to, threshold));
+        }
+    }
+
+    /**
+     * Sequentially fills the given range of a slice.
+     *
+     * @param slice  the array to fill, whose first element is the element at index `offset`
+     * @param offset the index of the element stored at the start of the array
+     * @param from   the first index to fill (inclusive)
+     * @param to     the last index to fill (exclusive)
+     */
+    static void fill(BigInteger[] slice, int offset, int from, int to) {
+        if (from >= to) {
+            return;
+        }
+        BigInteger[] pair = Fibonacci.bigPairAt(from);
+        BigInteger current = pair[0];
+        BigInteger next = pair[1];
+        for (int i = from - offset; i < to - offset; ++i) {
+            slice[i] = current;
+            BigInteger sum = current.add(next);
+            current = next;
+            next = sum;
+        }
+    }
+}
@@ -2,6 +2,15 @@ package com.cooksys.ftd.assignments.control;
 
 import sun.reflect.generics.reflectiveObjects.NotImplementedException;
 
+import java.math.BigInteger;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
 /**
  * The Fibonacci sequence is simply and recursively defined: the first two elements are `1`, and
  * every other element is equal to the sum of its two preceding elements. For example:
@@ -11,13 +20,48 @@ import sun.reflect.generics.reflectiveObjects.NotImplementedException;
  * [1, 1, 2, 1 + 2] => [1, 1, 2, 3] =>
  * [1, 1, 2, 3, 2 + 3] => [1, 1, 2, 3, 5] =>
  * ...etc
+ * <p>
+ * The same sequence is available as `LinearRecurrence.FIBONACCI`, which generalizes to other linear recurrences.
  */
 public class Fibonacci {
 
+    /**
+     * The largest index whose element still fits in an `int`
+     */
+    public static final int MAX_INT_INDEX = 45;
+
+    /**
+     * The largest index whose element still fits in a `long`
+     */
+    public static final int MAX_LONG_INDEX = 91;
+
+    /**
+     * Every element that fits in a `long`, which covers every element that fits in an `int` as well
+     */
+    private static final long[] TABLE = new long[MAX_LONG_INDEX + 1];
+
+    static {
+        TABLE[0] = 1;
+        TABLE[1] = 1;
+        for (int i = 2; i < TABLE.length; ++i) {
+            TABLE[i] = TABLE[i - 1] + TABLE[i - 2];
+        }
+    }
+
+    /**
+     * The smallest chunk `parallelSliceBig` hands to a single worker, below which seeding costs more than it saves
+     */
+    private static final int PARALLEL_SLICE_MIN_CHUNK = 256;
+
+    private static final FibonacciCache cache = new FibonacciCache(FibonacciCache.DEFAULT_CAPACITY);
+
     /**
      * Calculates the value in the Fibonacci sequence at a given index. For example,
      * `atIndex(0)` and `atIndex(1)` should return `1`, because the first two elements of the
      * sequence are both `1`.
+     * <p>
+     * The element is calculated in a logarithmic number of steps. Elements past `MAX_INT_INDEX` do not fit in an
+     * `int` and wrap around; use `atIndexExact(i)`, `atIndexLong(i)` or `atIndexBig(i)` to avoid that.
      *
      * @param i the index of the element to calculate
      * @return the calculated element
@@ -27,17 +71,98 @@ public class Fibonacci {
     	if(i < 0){
     		throw new IllegalArgumentException();
     	}
-    	else if (i == 0 || i == 1){
-        	return 1;
-        } else {
-        	int result = 1;
-        	int minustwo = 0;
-        	for (int j = 0; j < i; ++j){
-        		result += minustwo;
-        		minustwo = result - minustwo;
-        	}
-        	return result;
-        } 
+        if (i <= MAX_LONG_INDEX) {
+            return (int) TABLE[i];
+        }
+        return (int) pairAt(i)[0];
+    }
+
+    /**
+     * Calculates the value in the Fibonacci sequence at a given index, like `atIndex(i)`, but refuses to
+     * return a value that does not fit in an `int` instead of silently wrapping around.
+     *
+     * @param i the index of the element to calculate
+     * @return the calculated element
+     * @throws IllegalArgumentException if the given index is less than zero
+     * @throws ArithmeticException      if the element at the given index overflows an `int`
+     *                                  (that is, if the index is greater than `MAX_INT_INDEX`)
+     */
+    public static int atIndexExact(int i) throws IllegalArgumentException, ArithmeticException {
+        if (i > MAX_INT_INDEX) {
+            throw new ArithmeticException("Fibonacci element at index " + i + " overflows an int");
+        }
+        return atIndex(i);
+    }
+
+    /**
+     * Calculates the value in the Fibonacci sequence at a given index as a `long`, in a logarithmic number of steps.
+     *
+     * @param i the index of the element to calculate
+     * @return the calculated element
+     * @throws IllegalArgumentException if the given index is less than zero
+     * @throws ArithmeticException      if the element at the given index overflows a `long`
+     *                                  (that is, if the index is greater than `MAX_LONG_INDEX`)
+     */
+    public static long atIndexLong(int i) throws IllegalArgumentException, ArithmeticException {
+        if (i < 0) {
+            throw new IllegalArgumentException();
+        }
+        if (i > MAX_LONG_INDEX) {
+            throw new ArithmeticException("Fibonacci element at index " + i + " overflows a long");
+        }
+        return TABLE[i];
+    }
+
+    /**
+     * Calculates the value in the Fibonacci sequence at a given index as a `BigInteger`, in a logarithmic number
+     * of steps. Unlike the other variants, this one never overflows.
+     * <p>
+     * Elements that fit in a `long` come from a precomputed table, and larger ones are kept in a bounded,
+     * thread-safe cache (see `cache()`), so repeated lookups of the same index are cheap.
+     *
+     * @param i the index of the element to calculate
+     * @return the calculated element
+     * @throws IllegalArgumentException if the given index is less than zero
+     */
+    public static BigInteger atIndexBig(int i) throws IllegalArgumentException {
+        if (i < 0) {
+            throw new IllegalArgumentException();
+        }
+        if (i <= MAX_LONG_INDEX) {
+            return BigInteger.valueOf(TABLE[i]);
+        }
+        return cache.get(i);
+    }
+
+    /**
+     * Calculates the value in the Fibonacci sequence at a given index, modulo a given modulus. Indices go far beyond
+     * the `int` range, and the element is calculated in a logarithmic number of steps.
+     * <p>
+     * For moduli up to 65536, one full Pisano period (the period of the sequence modulo `m`) is tabulated and
+     * cached on first use, after which every query for that modulus is a single lookup.
+     *
+     * @param n the index of the element to calculate
+     * @param m the modulus
+     * @return the calculated element modulo `m`, in the range `[0, m)`
+     * @throws IllegalArgumentException if the given index is less than zero or the given modulus is less than one
+     */
+    public static int atIndexMod(long n, int m) throws IllegalArgumentException {
+        if (n < 0 || m < 1) {
+            throw new IllegalArgumentException();
+        }
+        // atIndex(n) is F(n + 1) in the conventional zero-based numbering; the period absorbs the overflow of n + 1
+        PisanoTable table = PisanoTable.forModulus(m);
+        if (table != null) {
+            return table.residue(n % table.period() + 1);
+        }
+        return (int) modPairAt(n, m)[0];
+    }
+
+    /**
+     * @return the cache behind `atIndexBig(i)`, which exposes its size, capacity and hit/miss counters for tuning
+     */
+    public static FibonacciCache cache() {
+        return cache;
     }
 
     /**
@@ -55,12 +180,198 @@ public class Fibonacci {
     		throw new IllegalArgumentException();
     	}
         int fib[]= new int[end-start]; 
+        FibonacciIterator iterator = new FibonacciIterator(start, end);
         for(int i = 0; i < fib.length; ++i) {
-        	fib[i] = atIndex(start+i);
+        	fib[i] = iterator.nextInt();
         }
         return fib;
     }
 
+    /**
+     * Calculates a slice of the fibonacci sequence as `BigInteger` elements, starting from a given start index
+     * (inclusive) and ending at a given end index (exclusive). The slice is seeded at the start index by fast
+     * doubling and then calculated in a single pass.
+     *
+     * @param start the starting index of the slice (inclusive)
+     * @param end   the ending index of the slice(exclusive)
+     * @return the calculated slice as an array of BigInteger elements
+     * @throws IllegalArgumentException if either the given start or end is negative, or if the
+     *                                  given end is less than the given start
+     */
+    public static BigInteger[] sliceBig(int start, int end) throws IllegalArgumentException {
+        if (start < 0 || end < 0 || end < start) {
+            throw new IllegalArgumentException();
+        }
+        BigInteger[] fib = new BigInteger[end - start];
+        BigFibonacciSliceTask.fill(fib, start, start, end);
+        return fib;
+    }
+
+    /**
+     * Calculates the same slice as `sliceBig(start, end)` on the common fork-join pool.
+     *
+     * @param start the starting index of the slice (inclusive)
+     * @param end   the ending index of the slice(exclusive)
+     * @return the calculated slice as an array of BigInteger elements
+     * @throws IllegalArgumentException if either the given start or end is negative, or if the
+     *                                  given end is less than the given start
+     */
+    public static BigInteger[] parallelSliceBig(int start, int end) throws IllegalArgumentException {
+        return parallelSliceBig(start, end, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Calculates the same slice as `sliceBig(start, end)` on a given fork-join pool. The range is split into chunks
+     * that are each seeded independently by fast doubling, so the work spreads over every worker of the pool.
+     *
+     * @param start the starting index of the slice (inclusive)
+     * @param end   the ending index of the slice(exclusive)
+     * @param pool  the pool to calculate the slice on
+     * @return the calculated slice as an array of BigInteger elements, in order
+     * @throws IllegalArgumentException if either the given start or end is negative, if the
+     *                                  given end is less than the given start, or if the given pool is null
+     */
+    public static BigInteger[] parallelSliceBig(int start, int end, ForkJoinPool pool) throws IllegalArgumentException {
+        if (start < 0 || end < 0 || end < start || pool == null) {
+            throw new IllegalArgumentException();
+        }
+        BigInteger[] fib = new BigInteger[end - start];
+        // a few chunks per worker keeps the pool busy when chunks at higher indices take longer
+        int threshold = Math.max(PARALLEL_SLICE_MIN_CHUNK, fib.length / (pool.getParallelism() * 4));
+        pool.invoke(new BigFibonacciSliceTask(fib, start, start, end, threshold));
+        return fib;
+    }
+
+    /**
+     * Lazily iterates over a slice of the fibonacci sequence, starting from a given start index (inclusive) and
+     * ending at a given end index (exclusive). The elements are the same as the ones returned by `slice(start, end)`,
+     * but are computed in a single pass without materializing an array.
+     *
+     * @param start the starting index of the slice (inclusive)
+     * @param end   the ending index of the slice(exclusive)
+     * @return an iterator over the elements of the slice
+     * @throws IllegalArgumentException if either the given start or end is negative, or if the
+     *                                  given end is less than the given start
+     */
+    public static PrimitiveIterator.OfInt iterator(int start, int end) throws IllegalArgumentException {
+        return new FibonacciIterator(start, end);
+    }
+
+    /**
+     * Streams a slice of the fibonacci sequence, starting from a given start index (inclusive) and
+     * ending at a given end index (exclusive).
+     *
+     * @param start the starting index of the slice (inclusive)
+     * @param end   the ending index of the slice(exclusive)
+     * @return a sequential, ordered stream of the elements of the slice
+     * @throws IllegalArgumentException if either the given start or end is negative, or if the
+     *                                  given end is less than the given start
+     */
+    public static IntStream stream(int start, int end) throws IllegalArgumentException {
+        FibonacciIterator iterator = new FibonacciIterator(start, end);
+        return StreamSupport.intStream(
+                Spliterators.spliterator(iterator, iterator.remaining(), Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * Streams a slice of the fibonacci sequence as `long` elements, starting from a given start index (inclusive) and
+     * ending at a given end index (exclusive). Unlike the `int` variants, the elements stay exact up to index 91.
+     *
+     * @param start the starting index of the slice (inclusive)
+     * @param end   the ending index of the slice(exclusive)
+     * @return a sequential, ordered stream of the elements of the slice
+     * @throws IllegalArgumentException if either the given start or end is negative, or if the
+     *                                  given end is less than the given start
+     */
+    public static LongStream longStream(int start, int end) throws IllegalArgumentException {
+        LongFibonacciIterator iterator = new LongFibonacciIterator(start, end);
+        return StreamSupport.longStream(
+                Spliterators.spliterator(iterator, iterator.remaining(), Spliterator.ORDERED | Spliterator.IMMUTABLE | Spliterator.NONNULL),
+                false);
+    }
+
+    /**
+     * Calculates the pair of elements at a given index and the index after it in a logarithmic number of steps,
+     * using the fast doubling identities `F(2k) = F(k) * (2 * F(k + 1) - F(k))` and
+     * `F(2k + 1) = F(k)^2 + F(k + 1)^2`. The arithmetic wraps around on overflow, so the low 32 bits of each
+     * element match what repeated `int` addition would produce.
+     *
+     * @param i the index of the first element of the pair
+     * @return a two element array holding the elements at `i` and `i + 1`
+     */
+    static long[] pairAt(int i) {
+        if (i < MAX_LONG_INDEX) {
+            return new long[]{TABLE[i], TABLE[i + 1]};
+        }
+        // atIndex(i) is F(i + 1) in the conventional zero-based numbering
+        long n = (long) i + 1;
+        long a = 0; // F(k)
+        long b = 1; // F(k + 1)
+        for (int bit = 63 - Long.numberOfLeadingZeros(n); bit >= 0; --bit) {
+            long c = a * (2 * b - a);
+            long d = a * a + b * b;
+            if (((n >>> bit) & 1) == 0) {
+                a = c;
+                b = d;
+            } else {
+                a = d;
+                b = c + d;
+            }
+        }
+        return new long[]{a, b};
+    }
+
+    /**
+     * Modular counterpart of `pairAt(i)`, which reduces every intermediate value modulo `m` so that it never
+     * overflows.
+     *
+     * @param i the index of the first element of the pair
+     * @param m the modulus
+     * @return a two element array holding the elements at `i` and `i + 1`, modulo `m`
+     */
+    static long[] modPairAt(long i, int m) {
+        long a = 0;
+        long b = 1 % m;
+        // walk the bits of i + 1 without overflowing when i is Long.MAX_VALUE: process i, then step once
+        for (int bit = 63 - Long.numberOfLeadingZeros(i); bit >= 0; --bit) {
+            long c = a * ((2 * b - a + m) % m) % m;
+            long d = (a * a + b * b) % m;
+            if (((i >>> bit) & 1) == 0) {
+                a = c;
+                b = d;
+            } else {
+                a = d;
+                b = (c + d) % m;
+            }
+        }
+        return new long[]{b, (a + b) % m};
+    }
+
+    /**
+     * `BigInteger` counterpart of `pairAt(i)`, which never overflows.
+     *
+     * @param i the index of the first element of the pair
+     * @return a two element array holding the elements at `i` and `i + 1`
+     */
+    static BigInteger[] bigPairAt(int i) {
+        long n = (long) i + 1;
+        BigInteger a = BigInteger.ZERO;
+        BigInteger b = BigInteger.ONE;
+        for (int bit = 63 - Long.numberOfLeadingZeros(n); bit >= 0; --bit) {
+            BigInteger c = a.multiply(b.shiftLeft(1).subtract(a));
+            BigInteger d = a.multiply(a).add(b.multiply(b));
+            if (((n >>> bit) & 1) == 0) {
+                a = c;
+                b = d;
+            } else {
+                a = d;
+                b = c.add(d);
+            }
+        }
+        return new BigInteger[]{a, b};
+    }
+
     /**
      * Calculates the beginning of the fibonacci sequence, up to a given count.
      *
@@ -0,0 +1,169 @@
+package com.cooksys.ftd.assignments.control;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, thread-safe cache of `BigInteger` Fibonacci elements, keyed by index.
+ * <p>
+ * Lookups that hit the cache are lock-free and do not contend on shared state: they read a `ConcurrentHashMap` and stamp
+ * the entry with an approximate access time from `System.nanoTime()`, only writing the stamp when it is more than
+ * `ACCESS_RESOLUTION_NANOS` old, so that concurrent readers of a hot entry do not keep invalidating its cache line.
+ * Misses calculate the element with fast doubling and insert it; once the cache grows past its
+ * capacity, the least recently used entries are evicted in a batch (an eighth of the capacity at a time) so that
+ * the cost of finding them is amortized over many misses.
+ */
+public class FibonacciCache {
+
+    /**
+     * The capacity used by the cache behind `Fibonacci.atIndexBig(i)`, unless it is changed at runtime
+     */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * How stale the access time of an entry may get before a hit refreshes it
+     */
+    static final long ACCESS_RESOLUTION_NANOS = 1_000_000;
+
+    private static final class Entry {
+        final BigInteger value;
+        volatile long lastAccess;
+
+        Entry(BigInteger value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    private static final class Candidate {
+        final Integer key;
+        final Entry entry;
+        final long lastAccess;
+
+        Candidate(Integer key, Entry entry) {
+            this.key = key;
+            this.entry = entry;
+            this.lastAccess = entry.lastAccess;
+        }
+    }
+
+    private final ConcurrentHashMap<Integer, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile int capacity;
+
+    /**
+     * @param capacity the maximum number of elements to keep
+     * @throws IllegalArgumentException if the given capacity is less than one
+     */
+    public FibonacciCache(int capacity) throws IllegalArgumentException {
+        setCapacity(capacity);
+    }
+
+    /**
+     * Returns the Fibonacci element at a given index, calculating and caching it if it is not cached yet.
+     *
+     * @param i the index of the element to look up
+     * @return the element at the given index
+     * @throws IllegalArgumentException if the given index is less than zero
+     */
+    public BigInteger get(int i) throws IllegalArgumentException {
+        if (i < 0) {
+            throw new IllegalArgumentException();
+        }
+        Entry entry = entries.get(i);
+        if (entry != null) {
+            hits.increment();
+            long now = System.nanoTime();
+            if (now - entry.lastAccess > ACCESS_RESOLUTION_NANOS) {
+                entry.lastAccess = now;
+            }
+            return entry.value;
+        }
+        misses.increment();
+        BigInteger value = Fibonacci.bigPairAt(i)[0];
+        entries.put(i, new Entry(value, System.nanoTime()));
+        if (entries.size() > capacity) {
+            evict();
+        }
+        return value;
+    }
+
+    /**
+     * @return the number of elements currently cached
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the maximum number of elements this cache keeps
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Changes the maximum number of elements this cache keeps, evicting the least recently used ones if it
+     * currently holds more than that.
+     *
+     * @param capacity the maximum number of elements to keep
+     * @throws IllegalArgumentException if the given capacity is less than one
+     */
+    public void setCapacity(int capacity) throws IllegalArgumentException {
+        if (capacity < 1) {
+            throw new IllegalArgumentException();
+        }
+        this.capacity = capacity;
+        if (entries.size() > capacity) {
+            evict();
+        }
+    }
+
+    /**
+     * @return the number of lookups answered from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that had to calculate their element
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Removes every cached element and resets the hit and miss counters.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    private synchronized void evict() {
+        int size = entries.size();
+        if (size <= capacity) {
+            // another thread already made room while we were waiting
+            return;
+        }
+        // concurrent hits keep refreshing the access times, so each one is read once and the copies are sorted
+        List<Candidate> snapshot = new ArrayList<>(size);
+        for (Map.Entry<Integer, Entry> entry : entries.entrySet()) {
+            snapshot.add(new Candidate(entry.getKey(), entry.getValue()));
+        }
+        snapshot.sort((a, b) -> Long.compare(a.lastAccess, b.lastAccess));
+        int target = capacity - capacity / 8;
+        int excess = snapshot.size() - target;
+        for (int i = 0; i < excess; ++i) {
+            Candidate oldest = snapshot.get(i);
+            entries.remove(oldest.key, oldest.entry);
+        }
+    }
+}
@@ -2,8 +2,12 @@ package com.cooksys.ftd.assignments.control;
 
 import sun.reflect.generics.reflectiveObjects.NotImplementedException;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
-import java.util.ArrayList;
+import java.util.BitSet;
 /**
  * FizzBuzz is an old programming exercise.
  * The goal is to iterate over a range of numbers and print a message about each number's divisibility.
@@ -15,9 +19,38 @@ import java.util.ArrayList;
  * *) otherwise, no message is produced
  * <p>
  * The exact message format for this assignment is specified in the `message(n)` method.
+ * <p>
+ * The messages are generated by `FizzBuzzRules.DEFAULT`; see `FizzBuzzRules` for other divisor/word combinations.
  */
 public class FizzBuzz {
 
+    /**
+     * Class code of numbers that are divisible by neither three nor five
+     */
+    public static final byte NONE = 0;
+
+    /**
+     * Class code of numbers that are divisible by three but not by five
+     */
+    public static final byte FIZZ = 1;
+
+    /**
+     * Class code of numbers that are divisible by five but not by three
+     */
+    public static final byte BUZZ = 2;
+
+    /**
+     * Class code of numbers that are divisible by both three and five (`FIZZ | BUZZ`)
+     */
+    public static final byte FIZZ_BUZZ = 3;
+
+    /**
+     * The class code of each number modulo 15
+     */
+    private static final byte[] WHEEL = {
+            FIZZ_BUZZ, NONE, NONE, FIZZ, NONE, BUZZ, FIZZ, NONE, NONE, FIZZ, BUZZ, NONE, FIZZ, NONE, NONE
+    };
+
     /**
      * Checks whether a given int `a` is evenly divisible by a given int `b` or not.
      * For example, `divides(4, 2)` returns `true` and `divides(4, 3)` returns `false`.
@@ -46,16 +79,7 @@ public class FizzBuzz {
      * @return a message according to the format above, or null if n is not divisible by either 3 or 5
      */
     public static String message(int n) {
-        String result = null;
-        if(divides(n,3)){
-        	result = "Fizz";
-        }
-        if(divides(n,5)){
-        	if(result == null) result = "";
-        	result = result + "Buzz";
-        }
-        if(result==null)return null;
-        return n + ": "+ result;
+        return FizzBuzzRules.DEFAULT.message(n);
     }
 
     /**
@@ -69,25 +93,145 @@ public class FizzBuzz {
      * @throws IllegalArgumentException if the given end is less than the given start
      */
     public static String[] messages(int start, int end) throws IllegalArgumentException {
-    	if (start < 0 || end < 0 || end < start){
-    		throw new IllegalArgumentException();
-    	}
-    	ArrayList<String> result = new ArrayList<String>();
-    	for(int i = 0; i < end - start; ++i) {
-    		if(message(start+i) != null){
-    			result.add(message(start+i));
-    		}
+        return FizzBuzzRules.DEFAULT.messages(start, end);
+    }
+
+    /**
+     * Counts the numbers in a given range whose message is `Fizz`, in constant time.
+     *
+     * @param start the number to start with (inclusive)
+     * @param end the number to end with (exclusive)
+     * @return the count of numbers divisible by three but not by five
+     * @throws IllegalArgumentException if either the given start or end is negative, or if the given end is less
+     *                                  than the given start
+     */
+    public static long countFizz(long start, long end) throws IllegalArgumentException {
+        return multiples(3, start, end) - multiples(15, start, end);
+    }
+
+    /**
+     * Counts the numbers in a given range whose message is `Buzz`, in constant time.
+     *
+     * @param start the number to start with (inclusive)
+     * @param end the number to end with (exclusive)
+     * @return the count of numbers divisible by five but not by three
+     * @throws IllegalArgumentException if either the given start or end is negative, or if the given end is less
+     *                                  than the given start
+     */
+    public static long countBuzz(long start, long end) throws IllegalArgumentException {
+        return multiples(5, start, end) - multiples(15, start, end);
+    }
+
+    /**
+     * Counts the numbers in a given range whose message is `FizzBuzz`, in constant time.
+     *
+     * @param start the number to start with (inclusive)
+     * @param end the number to end with (exclusive)
+     * @return the count of numbers divisible by both three and five
+     * @throws IllegalArgumentException if either the given start or end is negative, or if the given end is less
+     *                                  than the given start
+     */
+    public static long countFizzBuzz(long start, long end) throws IllegalArgumentException {
+        return multiples(15, start, end);
+    }
+
+    /**
+     * Counts the multiples of a given divisor in a given range, in constant time.
+     */
+    private static long multiples(long divisor, long start, long end) throws IllegalArgumentException {
+        if (start < 0 || end < 0 || end < start) {
+            throw new IllegalArgumentException();
+        }
+        return Math.floorDiv(end - 1, divisor) - Math.floorDiv(start - 1, divisor);
+    }
+
+    /**
+     * Classifies every number of a given range.
+     *
+     * @param start the number to start with (inclusive)
+     * @param end the number to end with (exclusive)
+     * @return an array holding the class code (`NONE`, `FIZZ`, `BUZZ` or `FIZZ_BUZZ`) of each number in the range
+     * @throws IllegalArgumentException if either the given start or end is negative, or if the given end is less
+     *                                  than the given start
+     */
+    public static byte[] classify(int start, int end) throws IllegalArgumentException {
+        if (start < 0 || end < 0 || end < start) {
+            throw new IllegalArgumentException();
+        }
+        byte[] classes = new byte[end - start];
+        classify(start, classes, 0, classes.length);
+        return classes;
+    }
+
+    /**
+     * Classifies every number of a given range into a given array. The class codes repeat every 15 numbers, so
+     * after the first full period the array is filled by copying the already classified part of itself.
+     *
+     * @param start the number to start with (inclusive)
+     * @param classes the array to write the class code (`NONE`, `FIZZ`, `BUZZ` or `FIZZ_BUZZ`) of each number into
+     * @param offset the position in the array of the class code of `start`
+     * @param length the count of numbers to classify
+     * @throws IllegalArgumentException if the given start or length is negative, if the given array is null, or if
+     *                                  the given offset and length do not fit in the given array
+     */
+    public static void classify(long start, byte[] classes, int offset, int length) throws IllegalArgumentException {
+        if (start < 0 || classes == null || length < 0 || offset < 0 || offset > classes.length - length) {
+            throw new IllegalArgumentException();
+        }
+        int r = (int) (start % WHEEL.length);
+        int head = Math.min(length, WHEEL.length);
+        for (int i = 0; i < head; ++i) {
+            classes[offset + i] = WHEEL[r];
+            if (++r == WHEEL.length) {
+                r = 0;
+            }
+        }
+        for (int filled = head; filled < length; filled += filled) {
+            System.arraycopy(classes, offset, classes, offset + filled, Math.min(filled, length - filled));
+        }
+    }
+
+    /**
+     * Classifies every number of a given range into a bit set, two bits per number: the class code of
+     * `start + i` is held in bits `2 * i` (divisible by three) and `2 * i + 1` (divisible by five).
+     *
+     * @param start the number to start with (inclusive)
+     * @param end the number to end with (exclusive)
+     * @return the class codes of the range, packed two bits per number
+     * @throws IllegalArgumentException if either the given start or end is negative, or if the given end is less
+     *                                  than the given start
+     */
+    public static BitSet classifyBits(int start, int end) throws IllegalArgumentException {
+        if (start < 0 || end < 0 || end < start) {
+            throw new IllegalArgumentException();
         }
-    	String[] temp = new String[result.size()];
-    	for(int i = 0; i < temp.length; i++) temp[i] = result.get(i);
-    	return temp;
+        int length = end - start;
+        long[] words = new long[(int) ((2L * length + 63) / 64)];
+        int r = start % WHEEL.length;
+        for (int i = 0; i < length; ++i) {
+            words[i >>> 5] |= (long) WHEEL[r] << ((i & 31) << 1);
+            if (++r == WHEEL.length) {
+                r = 0;
+            }
+        }
+        return BitSet.valueOf(words);
     }
 
     /**
      * For this main method, iterate over the numbers 1 through 115 and print
      * the relevant messages to sysout
+     * <p>
+     * Alternatively, given a start (inclusive), an end (exclusive) and a file path as arguments,
+     * render the messages for that range into the file in parallel (see `FizzBuzzWriter.writeParallel`)
      */
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (args.length == 3) {
+            try (FileChannel channel = FileChannel.open(Paths.get(args[2]),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                FizzBuzzWriter.DEFAULT.writeParallel(Long.parseLong(args[0]), Long.parseLong(args[1]), channel);
+            }
+            return;
+        }
     	String mes[] = messages(1,116);
         for(int i = 0; i < mes.length; ++i){
         	System.out.println(mes[i]);
@@ -0,0 +1,137 @@
+package com.cooksys.ftd.assignments.control;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+
+/**
+ * A set of FizzBuzz rules, each of which maps a divisor to a word. A number's message is made of the words of every
+ * rule whose divisor divides it, in the order the rules were given, so the default rules (`3 -> Fizz`, `5 -> Buzz`)
+ * produce `Fizz`, `Buzz` and `FizzBuzz`.
+ * <p>
+ * Whether a divisor divides a number only depends on the number modulo the least common multiple of all divisors,
+ * so the rules are compiled once into a table with one entry per residue. Classifying a number is then a single
+ * array lookup, no matter how many rules there are.
+ */
+public class FizzBuzzRules {
+
+    /**
+     * The default rules: `Fizz` for multiples of three and `Buzz` for multiples of five
+     */
+    public static final FizzBuzzRules DEFAULT = new FizzBuzzRules(new int[]{3, 5}, new String[]{"Fizz", "Buzz"});
+
+    /**
+     * The largest least common multiple of the divisors a rule set may compile to
+     */
+    public static final int MAX_PERIOD = 1 << 20;
+
+    private final String[] table;
+
+    /**
+     * @param divisors the divisor of each rule
+     * @param words    the word of each rule, in the same order as the divisors
+     * @throws IllegalArgumentException if either array is null, if the arrays differ in length, if any divisor is
+     *                                  less than one, if any word is null, or if the least common multiple of the
+     *                                  divisors is greater than `MAX_PERIOD`
+     */
+    public FizzBuzzRules(int[] divisors, String[] words) throws IllegalArgumentException {
+        if (divisors == null || words == null || divisors.length != words.length) {
+            throw new IllegalArgumentException();
+        }
+        long period = 1;
+        for (int i = 0; i < divisors.length; ++i) {
+            if (divisors[i] < 1 || words[i] == null) {
+                throw new IllegalArgumentException();
+            }
+            period = period / gcd(period, divisors[i]) * divisors[i];
+            if (period > MAX_PERIOD) {
+                throw new IllegalArgumentException("Rules compile to a period greater than " + MAX_PERIOD);
+            }
+        }
+
+        this.table = new String[(int) period];
+        // identical words share one instance, which keeps large tables small
+        HashMap<String, String> shared = new HashMap<String, String>();
+        StringBuilder word = new StringBuilder();
+        for (int r = 0; r < table.length; ++r) {
+            word.setLength(0);
+            for (int i = 0; i < divisors.length; ++i) {
+                if (r % divisors[i] == 0) {
+                    word.append(words[i]);
+                }
+            }
+            if (word.length() > 0) {
+                table[r] = shared.computeIfAbsent(word.toString(), w -> w);
+            }
+        }
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0) {
+            long c = b;
+            b = a % b;
+            a = c;
+        }
+        return a;
+    }
+
+    /**
+     * @return the least common multiple of the divisors, after which the words repeat
+     */
+    public int getPeriod() {
+        return table.length;
+    }
+
+    /**
+     * @param n the number to classify
+     * @return the word for the given number, or null if no rule applies to it
+     */
+    public String word(long n) {
+        return table[(int) Math.floorMod(n, (long) table.length)];
+    }
+
+    /**
+     * Generates a divisibility message for a given number, in the format of `FizzBuzz.message(n)`.
+     *
+     * @param n the number to generate a message for
+     * @return the message for the given number, or null if no rule applies to it
+     */
+    public String message(int n) {
+        String word = word(n);
+        return word == null ? null : n + ": " + word;
+    }
+
+    /**
+     * Generates an array of messages for a given range of numbers, in the format of `FizzBuzz.messages(start, end)`.
+     * Numbers no rule applies to are excluded from the resulting array.
+     *
+     * @param start the number to start with (inclusive)
+     * @param end   the number to end with (exclusive)
+     * @return an array of divisibility messages
+     * @throws IllegalArgumentException if either the given start or end is negative, or if the given end is less
+     *                                  than the given start
+     */
+    public String[] messages(int start, int end) throws IllegalArgumentException {
+        if (start < 0 || end < 0 || end < start) {
+            throw new IllegalArgumentException();
+        }
+        ArrayList<String> result = new ArrayList<String>();
+        int r = start % table.length;
+        for (int n = start; n < end; ++n) {
+            String word = table[r];
+            if (word != null) {
+                result.add(n + ": " + word);
+            }
+            if (++r == table.length) {
+                r = 0;
+            }
+        }
+        return result.toArray(new String[result.size()]);
+    }
+
+    /**
+     * @return a copy of the compiled table, holding the word for each residue modulo the period
+     */
+    String[] table() {
+        return table.clone();
+    }
+}
@@ -0,0 +1,333 @@
+package com.cooksys.ftd.assignments.control;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Writes FizzBuzz messages for a range of numbers straight into an `Appendable`, `CharBuffer` or `ByteBuffer`,
+ * one message per line, in the format specified by `FizzBuzz.message(n)`.
+ * <p>
+ * Which word (if any) belongs to a number only depends on the number modulo the period of the rules (15 for the
+ * default Fizz/Buzz rules), so every line suffix is precomputed once per position in that period, and the numbers
+ * themselves are formatted digit by digit into a reusable scratch buffer. Apart from that scratch buffer, writing a
+ * range allocates nothing, no matter how many numbers it covers.
+ */
+public class FizzBuzzWriter {
+
+    /**
+     * The writer for the default rules: `Fizz` for multiples of three and `Buzz` for multiples of five
+     */
+    public static final FizzBuzzWriter DEFAULT = new FizzBuzzWriter(FizzBuzzRules.DEFAULT);
+
+    /**
+     * The largest number of characters a (non-negative) `long` takes
+     */
+    private static final int MAX_DIGITS = 19;
+
+    /**
+     * How many numbers `writeParallel` renders into a single buffer
+     */
+    static final int PARALLEL_CHUNK_SIZE = 1 << 16;
+
+    private final int period;
+    private final char[][] charSuffixes;
+    private final byte[][] byteSuffixes;
+    private final int maxLineLength;
+    private final int hitsPerPeriod;
+
+    /**
+     * @param rules the rules that decide which numbers get which message
+     * @throws IllegalArgumentException if the given rules are null
+     */
+    public FizzBuzzWriter(FizzBuzzRules rules) throws IllegalArgumentException {
+        if (rules == null) {
+            throw new IllegalArgumentException();
+        }
+        String[] words = rules.table();
+        this.period = words.length;
+        this.charSuffixes = new char[period][];
+        this.byteSuffixes = new byte[period][];
+        int longestSuffix = 0;
+        int hits = 0;
+        for (int r = 0; r < period; ++r) {
+            if (words[r] != null) {
+                ++hits;
+                String suffix = ": " + words[r] + "\n";
+                charSuffixes[r] = suffix.toCharArray();
+                byteSuffixes[r] = suffix.getBytes(StandardCharsets.UTF_8);
+                longestSuffix = Math.max(longestSuffix, Math.max(charSuffixes[r].length, byteSuffixes[r].length));
+            }
+        }
+        this.maxLineLength = MAX_DIGITS + longestSuffix;
+        this.hitsPerPeriod = hits;
+    }
+
+    /**
+     * Writes the messages for a given range of numbers into an `Appendable`. Numbers without a message are skipped.
+     *
+     * @param start the number to start with (inclusive)
+     * @param end   the number to end with (exclusive)
+     * @param out   the destination of the messages
+     * @throws IllegalArgumentException if either the given start or end is negative, if the given end is less than
+     *                                  the given start, or if the given destination is null
+     * @throws IOException              if the destination fails to append a message
+     */
+    public void write(long start, long end, Appendable out) throws IllegalArgumentException, IOException {
+        check(start, end, out);
+        char[] line = new char[maxLineLength];
+        int r = residue(start);
+        for (long n = start; n < end; ++n) {
+            char[] suffix = charSuffixes[r];
+            if (suffix != null) {
+                int length = formatDigits(n, line);
+                System.arraycopy(suffix, 0, line, length, suffix.length);
+                length += suffix.length;
+                if (out instanceof StringBuilder) {
+                    ((StringBuilder) out).append(line, 0, length);
+                } else if (out instanceof Writer) {
+                    ((Writer) out).write(line, 0, length);
+                } else {
+                    for (int i = 0; i < length; ++i) {
+                        out.append(line[i]);
+                    }
+                }
+            }
+            if (++r == period) {
+                r = 0;
+            }
+        }
+    }
+
+    /**
+     * Writes the messages for a given range of numbers into a `CharBuffer`. Numbers without a message are skipped.
+     * Only whole lines are written: if the buffer runs out of room, writing stops before the first line that does
+     * not fit, and the returned number tells where to resume.
+     *
+     * @param start the number to start with (inclusive)
+     * @param end   the number to end with (exclusive)
+     * @param out   the destination of the messages
+     * @return the first number that has not been written, which is `end` if the whole range was written
+     * @throws IllegalArgumentException if either the given start or end is negative, if the given end is less than
+     *                                  the given start, or if the given destination is null
+     */
+    public long write(long start, long end, CharBuffer out) throws IllegalArgumentException {
+        check(start, end, out);
+        char[] line = new char[maxLineLength];
+        int r = residue(start);
+        for (long n = start; n < end; ++n) {
+            char[] suffix = charSuffixes[r];
+            if (suffix != null) {
+                int length = formatDigits(n, line);
+                if (out.remaining() < length + suffix.length) {
+                    return n;
+                }
+                out.put(line, 0, length).put(suffix);
+            }
+            if (++r == period) {
+                r = 0;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Writes the messages for a given range of numbers into a `ByteBuffer`, encoded as UTF-8. Numbers without a
+     * message are skipped. Only whole lines are written: if the buffer runs out of room, writing stops before the
+     * first line that does not fit, and the returned number tells where to resume.
+     *
+     * @param start the number to start with (inclusive)
+     * @param end   the number to end with (exclusive)
+     * @param out   the destination of the messages
+     * @return the first number that has not been written, which is `end` if the whole range was written
+     * @throws IllegalArgumentException if either the given start or end is negative, if the given end is less than
+     *                                  the given start, or if the given destination is null
+     */
+    public long write(long start, long end, ByteBuffer out) throws IllegalArgumentException {
+        check(start, end, out);
+        byte[] line = new byte[maxLineLength];
+        int r = residue(start);
+        for (long n = start; n < end; ++n) {
+            byte[] suffix = byteSuffixes[r];
+            if (suffix != null) {
+                int length = formatDigits(n, line);
+                if (out.remaining() < length + suffix.length) {
+                    return n;
+                }
+                out.put(line, 0, length).put(suffix);
+            }
+            if (++r == period) {
+                r = 0;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Writes the messages for a given range of numbers into a channel (typically a `FileChannel`), rendering them
+     * on the common fork-join pool.
+     *
+     * @param start   the number to start with (inclusive)
+     * @param end     the number to end with (exclusive)
+     * @param channel the destination of the messages
+     * @throws IllegalArgumentException if either the given start or end is negative, if the given end is less than
+     *                                  the given start, or if the given destination is null
+     * @throws IOException              if the channel fails to write the messages
+     */
+    public void writeParallel(long start, long end, GatheringByteChannel channel)
+            throws IllegalArgumentException, IOException {
+        writeParallel(start, end, channel, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Writes the messages for a given range of numbers into a channel (typically a `FileChannel`), rendering them
+     * on a given fork-join pool.
+     * <p>
+     * The range is split into chunks of `PARALLEL_CHUNK_SIZE` numbers, and each chunk is rendered into its own
+     * buffer by a worker of the pool. Chunks are handled in rounds of two per worker: while one round is written
+     * to the channel in order, with a single gathering write per round, the workers render the next round into a
+     * second set of buffers. The buffers are allocated once per call and reused for every round.
+     *
+     * @param start   the number to start with (inclusive)
+     * @param end     the number to end with (exclusive)
+     * @param channel the destination of the messages
+     * @param pool    the pool to render the messages on
+     * @throws IllegalArgumentException if either the given start or end is negative, if the given end is less than
+     *                                  the given start, or if the given destination or pool is null
+     * @throws IllegalStateException    if the messages are so long that a chunk does not fit in a single buffer
+     * @throws IOException              if the channel fails to write the messages
+     */
+    public void writeParallel(long start, long end, GatheringByteChannel channel, ForkJoinPool pool)
+            throws IllegalArgumentException, IOException {
+        check(start, end, channel);
+        if (pool == null) {
+            throw new IllegalArgumentException();
+        }
+        long chunks = (end - start + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+        int roundSize = (int) Math.min(chunks, pool.getParallelism() * 2L);
+        if (roundSize == 0) {
+            return;
+        }
+        // a chunk holds at most one line per number, and at most `hitsPerPeriod` lines per started period
+        long lines = Math.min(PARALLEL_CHUNK_SIZE, (PARALLEL_CHUNK_SIZE / period + 2) * (long) hitsPerPeriod);
+        long capacity = lines * maxLineLength;
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IllegalStateException();
+        }
+        ByteBuffer[] current = new ByteBuffer[roundSize];
+        ByteBuffer[] next = new ByteBuffer[roundSize];
+        for (int i = 0; i < roundSize; ++i) {
+            current[i] = ByteBuffer.allocateDirect((int) capacity);
+            next[i] = ByteBuffer.allocateDirect((int) capacity);
+        }
+
+        long roundStart = start;
+        List<ForkJoinTask<?>> rendering = render(roundStart, end, current, pool);
+        while (!rendering.isEmpty()) {
+            int rendered = join(rendering);
+            roundStart = Math.min(end, roundStart + (long) roundSize * PARALLEL_CHUNK_SIZE);
+            rendering = render(roundStart, end, next, pool);
+
+            long remaining = 0;
+            for (int i = 0; i < rendered; ++i) {
+                remaining += current[i].remaining();
+            }
+            while (remaining > 0) {
+                remaining -= channel.write(current, 0, rendered);
+            }
+
+            ByteBuffer[] written = current;
+            current = next;
+            next = written;
+        }
+    }
+
+    /**
+     * Starts rendering one round of chunks, one chunk per buffer, beginning at a given number.
+     *
+     * @return the started tasks, in order, or an empty list if there is nothing left to render
+     */
+    private List<ForkJoinTask<?>> render(long from, long end, ByteBuffer[] buffers, ForkJoinPool pool) {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(buffers.length);
+        for (int i = 0; i < buffers.length && from < end; ++i) {
+            long chunkStart = from;
+            long chunkEnd = Math.min(end, chunkStart + PARALLEL_CHUNK_SIZE);
+            ByteBuffer buffer = buffers[i];
+            tasks.add(pool.submit(() -> {
+                buffer.clear();
+                if (write(chunkStart, chunkEnd, buffer) != chunkEnd) {
+                    // the buffers are sized for the longest possible chunk, so this would be a sizing bug
+                    throw new IllegalStateException();
+                }
+                buffer.flip();
+            }));
+            from = chunkEnd;
+        }
+        return tasks;
+    }
+
+    /**
+     * Waits for every given task to finish.
+     *
+     * @return the number of tasks
+     */
+    private static int join(List<ForkJoinTask<?>> tasks) {
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+        return tasks.size();
+    }
+
+    private static void check(long start, long end, Object out) throws IllegalArgumentException {
+        if (start < 0 || end < 0 || end < start || out == null) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    private int residue(long n) {
+        return (int) (n % period);
+    }
+
+    private static int digitCount(long n) {
+        int count = 1;
+        for (long limit = 10; count < MAX_DIGITS && n >= limit; limit *= 10) {
+            ++count;
+        }
+        return count;
+    }
+
+    /**
+     * Formats a non-negative number in decimal at the start of a buffer.
+     *
+     * @return the number of characters written
+     */
+    private static int formatDigits(long n, char[] buffer) {
+        int count = digitCount(n);
+        for (int i = count - 1; i >= 0; --i) {
+            buffer[i] = (char) ('0' + n % 10);
+            n /= 10;
+        }
+        return count;
+    }
+
+    /**
+     * Formats a non-negative number in decimal (ASCII) at the start of a buffer.
+     *
+     * @return the number of bytes written
+     */
+    private static int formatDigits(long n, byte[] buffer) {
+        int count = digitCount(n);
+        for (int i = count - 1; i >= 0; --i) {
+            buffer[i] = (byte) ('0' + n % 10);
+            n /= 10;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,308 @@
+package com.cooksys.ftd.assignments.control;
+
+import java.math.BigInteger;
+
+/**
+ * A linear recurrence with constant coefficients, of the form:
+ * <p>
+ * `a(n) = c[0] * a(n - 1) + c[1] * a(n - 2) + ... + c[k - 1] * a(n - k)`
+ * <p>
+ * seeded with its first `k` elements `a(0), ..., a(k - 1)`. The Fibonacci sequence, as indexed by
+ * `Fibonacci.atIndex(i)`, is the recurrence with coefficients `[1, 1]` and seeds `[1, 1]` (see `FIBONACCI`).
+ * <p>
+ * Elements are calculated by exponentiation of the recurrence's `k x k` companion matrix, which takes a logarithmic
+ * number of matrix products. Batches of indices share the powers of the matrix, so every extra index only costs a
+ * logarithmic number of matrix-vector products. Elements can be calculated as `long` values (which wrap around on
+ * overflow), modulo a given modulus, or as exact `BigInteger` values.
+ */
+public class LinearRecurrence {
+
+    /**
+     * The Fibonacci sequence: 1, 1, 2, 3, 5, 8, ...
+     */
+    public static final LinearRecurrence FIBONACCI = new LinearRecurrence(new long[]{1, 1}, new long[]{1, 1});
+
+    /**
+     * The Lucas numbers: 2, 1, 3, 4, 7, 11, ...
+     */
+    public static final LinearRecurrence LUCAS = new LinearRecurrence(new long[]{1, 1}, new long[]{2, 1});
+
+    /**
+     * The Tribonacci numbers: 0, 0, 1, 1, 2, 4, 7, 13, ...
+     */
+    public static final LinearRecurrence TRIBONACCI = new LinearRecurrence(new long[]{1, 1, 1}, new long[]{0, 0, 1});
+
+    private final long[] coefficients;
+    private final long[] seeds;
+
+    /**
+     * @param coefficients the coefficients `c[0], ..., c[k - 1]`, where `c[i]` multiplies `a(n - 1 - i)`
+     * @param seeds        the first elements `a(0), ..., a(k - 1)`
+     * @throws IllegalArgumentException if either array is null or empty, or if the arrays differ in length
+     */
+    public LinearRecurrence(long[] coefficients, long[] seeds) throws IllegalArgumentException {
+        if (coefficients == null || seeds == null || coefficients.length == 0 || coefficients.length != seeds.length) {
+            throw new IllegalArgumentException();
+        }
+        this.coefficients = coefficients.clone();
+        this.seeds = seeds.clone();
+    }
+
+    /**
+     * @return the order `k` of this recurrence, which is the number of coefficients and seeds
+     */
+    public int getOrder() {
+        return coefficients.length;
+    }
+
+    /**
+     * Calculates the element at a given index. The arithmetic wraps around on overflow.
+     *
+     * @param n the index of the element to calculate
+     * @return the calculated element
+     * @throws IllegalArgumentException if the given index is less than zero
+     */
+    public long atIndex(long n) throws IllegalArgumentException {
+        return atIndices(new long[]{n})[0];
+    }
+
+    /**
+     * Calculates the element at a given index, modulo a given modulus. None of the intermediate values overflow.
+     *
+     * @param n the index of the element to calculate
+     * @param m the modulus
+     * @return the calculated element modulo `m`, in the range `[0, m)`
+     * @throws IllegalArgumentException if the given index is less than zero or the given modulus is less than one
+     */
+    public int atIndexMod(long n, int m) throws IllegalArgumentException {
+        return atIndicesMod(new long[]{n}, m)[0];
+    }
+
+    /**
+     * Calculates the exact element at a given index.
+     *
+     * @param n the index of the element to calculate
+     * @return the calculated element
+     * @throws IllegalArgumentException if the given index is less than zero
+     */
+    public BigInteger atIndexBig(long n) throws IllegalArgumentException {
+        return atIndicesBig(new long[]{n})[0];
+    }
+
+    /**
+     * Calculates the elements at a batch of indices, like `atIndex(n)` does for a single one.
+     *
+     * @param indices the indices of the elements to calculate, in any order
+     * @return the calculated elements, in the same order as the indices
+     * @throws IllegalArgumentException if the given array is null or holds an index less than zero
+     */
+    public long[] atIndices(long[] indices) throws IllegalArgumentException {
+        return evaluate(indices, 0);
+    }
+
+    /**
+     * Calculates the elements at a batch of indices, like `atIndexMod(n, m)` does for a single one.
+     *
+     * @param indices the indices of the elements to calculate, in any order
+     * @param m       the modulus
+     * @return the calculated elements modulo `m`, in the same order as the indices
+     * @throws IllegalArgumentException if the given array is null or holds an index less than zero, or if the
+     *                                  given modulus is less than one
+     */
+    public int[] atIndicesMod(long[] indices, int m) throws IllegalArgumentException {
+        if (m < 1) {
+            throw new IllegalArgumentException();
+        }
+        long[] elements = evaluate(indices, m);
+        int[] result = new int[elements.length];
+        for (int i = 0; i < elements.length; ++i) {
+            result[i] = (int) elements[i];
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the exact elements at a batch of indices, like `atIndexBig(n)` does for a single one.
+     *
+     * @param indices the indices of the elements to calculate, in any order
+     * @return the calculated elements, in the same order as the indices
+     * @throws IllegalArgumentException if the given array is null or holds an index less than zero
+     */
+    public BigInteger[] atIndicesBig(long[] indices) throws IllegalArgumentException {
+        int k = coefficients.length;
+        BigInteger[] initial = new BigInteger[k];
+        BigInteger[][] power = new BigInteger[k][k];
+        for (int i = 0; i < k; ++i) {
+            initial[i] = BigInteger.valueOf(seeds[i]);
+            for (int j = 0; j < k; ++j) {
+                power[i][j] = BigInteger.valueOf(companion(i, j));
+            }
+        }
+
+        BigInteger[][] states = new BigInteger[check(indices)][];
+        for (int i = 0; i < states.length; ++i) {
+            states[i] = initial;
+        }
+        // the powers M^(2^bit) commute, so each one can be applied to every state that needs it before moving on
+        int bit = 0;
+        for (long bits = max(indices); bits != 0; bits >>>= 1, ++bit) {
+            for (int i = 0; i < states.length; ++i) {
+                if (((indices[i] >>> bit) & 1) != 0) {
+                    states[i] = apply(power, states[i]);
+                }
+            }
+            if ((bits >>> 1) != 0) {
+                power = multiply(power, power);
+            }
+        }
+
+        BigInteger[] result = new BigInteger[states.length];
+        for (int i = 0; i < states.length; ++i) {
+            result[i] = states[i][0];
+        }
+        return result;
+    }
+
+    /**
+     * Calculates the elements at a batch of indices with `long` arithmetic, either wrapping around on overflow or
+     * modulo a given modulus.
+     *
+     * @param m the modulus, or 0 to let the arithmetic wrap around
+     */
+    private long[] evaluate(long[] indices, long m) throws IllegalArgumentException {
+        int k = coefficients.length;
+        long[] initial = new long[k];
+        long[][] power = new long[k][k];
+        for (int i = 0; i < k; ++i) {
+            initial[i] = reduce(seeds[i], m);
+            for (int j = 0; j < k; ++j) {
+                power[i][j] = reduce(companion(i, j), m);
+            }
+        }
+
+        long[][] states = new long[check(indices)][];
+        for (int i = 0; i < states.length; ++i) {
+            states[i] = initial;
+        }
+        // the powers M^(2^bit) commute, so each one can be applied to every state that needs it before moving on
+        int bit = 0;
+        for (long bits = max(indices); bits != 0; bits >>>= 1, ++bit) {
+            for (int i = 0; i < states.length; ++i) {
+                if (((indices[i] >>> bit) & 1) != 0) {
+                    states[i] = apply(power, states[i], m);
+                }
+            }
+            if ((bits >>> 1) != 0) {
+                power = multiply(power, power, m);
+            }
+        }
+
+        long[] result = new long[states.length];
+        for (int i = 0; i < states.length; ++i) {
+            result[i] = states[i][0];
+        }
+        return result;
+    }
+
+    private static long reduce(long value, long m) {
+        return m == 0 ? value : Math.floorMod(value, m);
+    }
+
+    /**
+     * Multiplies two square matrices. With a modulus, every entry is below `2^31`, so each product fits in a
+     * `long` and the running sum is reduced after every step.
+     */
+    private static long[][] multiply(long[][] a, long[][] b, long m) {
+        int k = a.length;
+        long[][] c = new long[k][k];
+        for (int i = 0; i < k; ++i) {
+            for (int l = 0; l < k; ++l) {
+                long factor = a[i][l];
+                if (factor == 0) {
+                    continue;
+                }
+                for (int j = 0; j < k; ++j) {
+                    c[i][j] = m == 0 ? c[i][j] + factor * b[l][j] : (c[i][j] + factor * b[l][j]) % m;
+                }
+            }
+        }
+        return c;
+    }
+
+    private static long[] apply(long[][] a, long[] v, long m) {
+        int k = a.length;
+        long[] result = new long[k];
+        for (int i = 0; i < k; ++i) {
+            long sum = 0;
+            for (int j = 0; j < k; ++j) {
+                sum = m == 0 ? sum + a[i][j] * v[j] : (sum + a[i][j] * v[j]) % m;
+            }
+            result[i] = sum;
+        }
+        return result;
+    }
+
+    private static BigInteger[][] multiply(BigInteger[][] a, BigInteger[][] b) {
+        int k = a.length;
+        BigInteger[][] c = new BigInteger[k][k];
+        for (int i = 0; i < k; ++i) {
+            for (int j = 0; j < k; ++j) {
+                BigInteger sum = BigInteger.ZERO;
+                for (int l = 0; l < k; ++l) {
+                    if (a[i][l].signum() != 0 && b[l][j].signum() != 0) {
+                        sum = sum.add(a[i][l].multiply(b[l][j]));
+                    }
+                }
+                c[i][j] = sum;
+            }
+        }
+        return c;
+    }
+
+    private static BigInteger[] apply(BigInteger[][] a, BigInteger[] v) {
+        int k = a.length;
+        BigInteger[] result = new BigInteger[k];
+        for (int i = 0; i < k; ++i) {
+            BigInteger sum = BigInteger.ZERO;
+            for (int j = 0; j < k; ++j) {
+                if (a[i][j].signum() != 0) {
+                    sum = sum.add(a[i][j].multiply(v[j]));
+                }
+            }
+            result[i] = sum;
+        }
+        return result;
+    }
+
+    /**
+     * @return the entry at row `i` and column `j` of the companion matrix, which maps the state
+     * `[a(n), ..., a(n + k - 1)]` to the state `[a(n + 1), ..., a(n + k)]`
+     */
+    private long companion(int i, int j) {
+        int k = coefficients.length;
+        if (i < k - 1) {
+            return j == i + 1 ? 1 : 0;
+        }
+        return coefficients[k - 1 - j];
+    }
+
+    private static int check(long[] indices) throws IllegalArgumentException {
+        if (indices == null) {
+            throw new IllegalArgumentException();
+        }
+        for (long n : indices) {
+            if (n < 0) {
+                throw new IllegalArgumentException();
+            }
+        }
+        return indices.length;
+    }
+
+    private static long max(long[] indices) {
+        long max = 0;
+        for (long n : indices) {
+            max = Math.max(max, n);
+        }
+        return max;
+    }
+}
@@ -0,0 +1,61 @@
+package com.cooksys.ftd.assignments.control;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * Lazily iterates over a slice of the Fibonacci sequence, starting from a given start index (inclusive) and
+ * ending at a given end index (exclusive).
+ * <p>
+ * The iterator is seeded at the start index with a single logarithmic jump (see `Fibonacci.pairAt(i)`), after which
+ * every element costs one addition. Elements are `long` values, so they stay exact up to index 91 and wrap
+ * around on overflow after that.
+ */
+public class LongFibonacciIterator implements PrimitiveIterator.OfLong {
+
+    private long current;
+    private long next;
+    private int index;
+    private final int end;
+
+    /**
+     * @param start the starting index of the slice (inclusive)
+     * @param end   the ending index of the slice (exclusive)
+     * @throws IllegalArgumentException if either the given start or end is negative, or if the
+     *                                  given end is less than the given start
+     */
+    public LongFibonacciIterator(int start, int end) throws IllegalArgumentException {
+        if (start < 0 || end < 0 || end < start) {
+            throw new IllegalArgumentException();
+        }
+        long[] pair = Fibonacci.pairAt(start);
+        this.current = pair[0];
+        this.next = pair[1];
+        this.index = start;
+        this.end = end;
+    }
+
+    /**
+     * @return the number of elements left in this slice
+     */
+    public int remaining() {
+        return end - index;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < end;
+    }
+
+    @Override
+    public long nextLong() {
+        if (index >= end) {
+            throw new NoSuchElementException();
+        }
+        long result = current;
+        current = next;
+        next += result;
+        ++index;
+        return result;
+    }
+}
@@ -0,0 +1,88 @@
+package com.cooksys.ftd.assignments.control;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One full period of the Fibonacci sequence modulo a given modulus.
+ * <p>
+ * The Fibonacci sequence modulo any `m` is periodic (the period is called the Pisano period of `m`, and it is
+ * never larger than `6m`), so once a period is tabulated, the element at any index is a single lookup at the
+ * index modulo the period. Tables are only built for moduli up to `MAX_MODULUS`, and at most `MAX_TABLES` of them
+ * are kept, which bounds the memory they use.
+ */
+class PisanoTable {
+
+    /**
+     * The largest modulus a table is built for
+     */
+    static final int MAX_MODULUS = 1 << 16;
+
+    /**
+     * The largest number of tables kept at once
+     */
+    static final int MAX_TABLES = 256;
+
+    private static final ConcurrentHashMap<Integer, PisanoTable> tables = new ConcurrentHashMap<>();
+
+    private final int modulus;
+    private final int[] residues;
+
+    private PisanoTable(int modulus) {
+        this.modulus = modulus;
+        int[] residues = new int[Math.max(modulus, 16)];
+        int length = 0;
+        int a = 0;
+        int b = 1 % modulus;
+        do {
+            if (length == residues.length) {
+                residues = Arrays.copyOf(residues, Math.min(residues.length * 2, 6 * modulus));
+            }
+            residues[length++] = a;
+            int c = a + b;
+            a = b;
+            b = c >= modulus ? c - modulus : c;
+        } while (a != 0 || b != 1 % modulus);
+        this.residues = Arrays.copyOf(residues, length);
+    }
+
+    /**
+     * Looks up the table of a given modulus, building and caching it on first use.
+     *
+     * @param modulus the modulus to look up the table for
+     * @return the table of the given modulus, or null if the modulus is too large to tabulate
+     * or if the cache is already full
+     */
+    static PisanoTable forModulus(int modulus) {
+        PisanoTable table = tables.get(modulus);
+        if (table != null || modulus < 1 || modulus > MAX_MODULUS) {
+            return table;
+        }
+        if (tables.size() >= MAX_TABLES) {
+            return null;
+        }
+        return tables.computeIfAbsent(modulus, PisanoTable::new);
+    }
+
+    /**
+     * @return the modulus of this table
+     */
+    int modulus() {
+        return modulus;
+    }
+
+    /**
+     * @return the Pisano period of the modulus of this table
+     */
+    int period() {
+        return residues.length;
+    }
+
+    /**
+     * @param n the conventional, zero-based index of the element (so that `F(0) = 0` and `F(1) = 1`)
+     * @return the element at the given index, modulo the modulus of this table
+     */
+    int residue(long n) {
+        return residues[(int) (n % residues.length)];
+    }
+}
@@ -0,0 +1,100 @@
+package com.cooksys.ftd.assignments.control;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class FibonacciCacheTests {
+
+    @Test
+    public void getTest() {
+        FibonacciCache cache = new FibonacciCache(16);
+        for (int i = 0; i < 200; i++) {
+            assertEquals(Fibonacci.atIndexBig(i), cache.get(i));
+        }
+    }
+
+    @Test
+    public void hitMissTest() {
+        FibonacciCache cache = new FibonacciCache(16);
+        BigInteger first = cache.get(100);
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        assertSame(first, cache.get(100));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.size());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void evictionTest() {
+        FibonacciCache cache = new FibonacciCache(16);
+        for (int i = 100; i < 1000; i++) {
+            cache.get(i);
+            assertTrue(cache.size() <= cache.getCapacity());
+        }
+
+        // the most recently used element survives a round of evictions
+        cache.get(5000);
+        for (int i = 0; i < 10; i++) {
+            cache.get(2000 + i);
+            cache.get(5000);
+        }
+        long misses = cache.getMissCount();
+        cache.get(5000);
+        assertEquals(misses, cache.getMissCount());
+
+        cache.setCapacity(4);
+        assertTrue(cache.size() <= 4);
+    }
+
+    @Test
+    public void concurrentTest() throws Exception {
+        FibonacciCache cache = new FibonacciCache(32);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        int index = 100 + (i * 7) % 64;
+                        if (!Fibonacci.bigPairAt(index)[0].equals(cache.get(index))) {
+                            return false;
+                        }
+                    }
+                    return true;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(8000, cache.getHitCount() + cache.getMissCount());
+        assertTrue(cache.size() <= cache.getCapacity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void capacityExceptionTest() {
+        new FibonacciCache(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getExceptionTest() {
+        new FibonacciCache(1).get(-1);
+    }
+}
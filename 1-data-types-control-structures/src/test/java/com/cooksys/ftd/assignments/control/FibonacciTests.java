@@ -2,6 +2,11 @@ package com.cooksys.ftd.assignments.control;
 
 import org.junit.*;
 
+import java.math.BigInteger;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ForkJoinPool;
+
 import static com.cooksys.ftd.assignments.control.Fibonacci.*;
 import static org.junit.Assert.*;
 
@@ -13,6 +18,7 @@ public class FibonacciTests {
     private static int[] fib;
     private static int[][] slices;
     private static int[][] prefixes;
+    private static ForkJoinPool pool;
 
     @BeforeClass
     public static void before() {
@@ -38,6 +44,7 @@ public class FibonacciTests {
             prefixes[i] = new int[i + 1];
             System.arraycopy(fib, 0, prefixes[i], 0, i + 1);
         }
+        pool = new ForkJoinPool(3);
     }
 
     @AfterClass
@@ -49,6 +56,8 @@ public class FibonacciTests {
         fib = null;
         slices = null;
         prefixes = null;
+        pool.shutdown();
+        pool = null;
     }
 
     @Test
@@ -63,6 +72,55 @@ public class FibonacciTests {
         atIndex(-1);
     }
 
+    @Test
+    public void atIndexExactTest() {
+        for (int i = 0; i <= MAX_INT_INDEX; i++) {
+            assertEquals(fib[i], atIndexExact(i));
+        }
+        assertEquals(1836311903, atIndexExact(MAX_INT_INDEX));
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void atIndexExactOverflowTest() {
+        atIndexExact(MAX_INT_INDEX + 1);
+    }
+
+    @Test
+    public void atIndexLongTest() {
+        long previous = 0;
+        long current = 1;
+        for (int i = 0; i <= MAX_LONG_INDEX; i++) {
+            assertEquals(current, atIndexLong(i));
+            long next = previous + current;
+            previous = current;
+            current = next;
+        }
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void atIndexLongOverflowTest() {
+        atIndexLong(MAX_LONG_INDEX + 1);
+    }
+
+    @Test
+    public void atIndexBigTest() {
+        BigInteger previous = BigInteger.ZERO;
+        BigInteger current = BigInteger.ONE;
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(current, atIndexBig(i));
+            assertEquals(current.intValue(), atIndex(i));
+            BigInteger next = previous.add(current);
+            previous = current;
+            current = next;
+        }
+        assertEquals(694242, atIndexBig(1000000).bitLength());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void atIndexBigExceptionTest() {
+        atIndexBig(-1);
+    }
+
     @Test
     public void sliceTest() {
         assertArrayEquals(empty, slice(0, 0));
@@ -90,4 +148,131 @@ public class FibonacciTests {
     public void fibonacciExceptionTest() {
         fibonacci(-1);
     }
+
+    @Test
+    public void atIndexModTest() {
+        int[] moduli = {1, 2, 3, 10, 1000, 65536, 65537, 1000000007, Integer.MAX_VALUE};
+        for (int m : moduli) {
+            BigInteger modulus = BigInteger.valueOf(m);
+            for (int i = 0; i < 500; i++) {
+                assertEquals(atIndexBig(i).mod(modulus).intValue(), atIndexMod(i, m));
+            }
+        }
+    }
+
+    @Test
+    public void atIndexModHugeIndexTest() {
+        long[] indices = {1000000000000000000L, 123456789012345678L, Long.MAX_VALUE - 1, Long.MAX_VALUE};
+        for (long n : indices) {
+            // the tabulated and the fast doubling paths must agree
+            assertEquals(modPairAt(n, 1000)[0], atIndexMod(n, 1000));
+            assertEquals(modPairAt(n, 65536)[0], atIndexMod(n, 65536));
+        }
+        assertEquals(atIndexBig(1000000).mod(BigInteger.valueOf(999999937)).intValue(), atIndexMod(1000000, 999999937));
+    }
+
+    @Test
+    public void linearRecurrenceTest() {
+        // the fast doubling entry points agree with the general recurrence, past the tables and caches
+        int[] indices = {92, 93, 100, 1000, 4321, 65535, 1 << 20, Integer.MAX_VALUE};
+        FibonacciCache cache = new FibonacciCache(4);
+        for (int i : indices) {
+            assertEquals((int) LinearRecurrence.FIBONACCI.atIndex(i), atIndex(i));
+            assertEquals(LinearRecurrence.FIBONACCI.atIndexMod(i, 1000000007), atIndexMod(i, 1000000007));
+            assertEquals(LinearRecurrence.FIBONACCI.atIndexMod(Long.MAX_VALUE - i, 65537), atIndexMod(Long.MAX_VALUE - i, 65537));
+            if (i <= 4321) {
+                assertEquals(LinearRecurrence.FIBONACCI.atIndexBig(i), atIndexBig(i));
+                assertEquals(LinearRecurrence.FIBONACCI.atIndexBig(i), cache.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void pisanoPeriodTest() {
+        assertEquals(1, PisanoTable.forModulus(1).period());
+        assertEquals(3, PisanoTable.forModulus(2).period());
+        assertEquals(20, PisanoTable.forModulus(5).period());
+        assertEquals(60, PisanoTable.forModulus(10).period());
+        assertEquals(1500, PisanoTable.forModulus(1000).period());
+        assertSame(PisanoTable.forModulus(10), PisanoTable.forModulus(10));
+        assertNull(PisanoTable.forModulus(PisanoTable.MAX_MODULUS + 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void atIndexModExceptionTest() {
+        atIndexMod(10, 0);
+    }
+
+    @Test
+    public void sliceBigTest() {
+        assertEquals(0, sliceBig(0, 0).length);
+        BigInteger[] expected = new BigInteger[2000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = atIndexBig(i);
+        }
+        for (int i = 0; i < slices.length; i++) {
+            BigInteger[] slice = sliceBig(i, i + window);
+            for (int j = 0; j < window; j++) {
+                assertEquals(slices[i][j], slice[j].intValue());
+            }
+        }
+        BigInteger[] slice = sliceBig(0, expected.length);
+        assertArrayEquals(expected, slice);
+    }
+
+    @Test
+    public void parallelSliceBigTest() {
+        assertEquals(0, parallelSliceBig(5, 5).length);
+        assertArrayEquals(sliceBig(0, 3000), parallelSliceBig(0, 3000));
+        assertArrayEquals(sliceBig(100000, 102000), parallelSliceBig(100000, 102000, pool));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void parallelSliceBigExceptionTest() {
+        parallelSliceBig(2, 1);
+    }
+
+    @Test
+    public void iteratorTest() {
+        assertFalse(iterator(0, 0).hasNext());
+        for (int i = 0; i < slices.length; i++) {
+            PrimitiveIterator.OfInt iterator = iterator(i, i + window);
+            for (int j = 0; j < window; j++) {
+                assertTrue(iterator.hasNext());
+                assertEquals(slices[i][j], iterator.nextInt());
+            }
+            assertFalse(iterator.hasNext());
+        }
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void iteratorExhaustedTest() {
+        iterator(3, 3).nextInt();
+    }
+
+    @Test
+    public void streamTest() {
+        assertArrayEquals(empty, stream(0, 0).toArray());
+        for (int i = 0; i < slices.length; i++) {
+            assertArrayEquals(slices[i], stream(i, i + window).toArray());
+        }
+        assertArrayEquals(fib, stream(0, size).toArray());
+    }
+
+    @Test
+    public void longStreamTest() {
+        long[] expected = new long[size];
+        expected[0] = 1;
+        expected[1] = 1;
+        for (int i = 2; i < size; i++) {
+            expected[i] = expected[i - 1] + expected[i - 2];
+        }
+        assertArrayEquals(expected, longStream(0, size).toArray());
+        assertEquals(7540113804746346429L, longStream(91, 92).sum());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void streamExceptionTest() {
+        stream(1, 0);
+    }
 }
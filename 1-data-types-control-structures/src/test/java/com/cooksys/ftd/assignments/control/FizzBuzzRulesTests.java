@@ -0,0 +1,79 @@
+package com.cooksys.ftd.assignments.control;
+
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class FizzBuzzRulesTests {
+
+    private static String bruteForce(int[] divisors, String[] words, int n) {
+        String result = "";
+        for (int i = 0; i < divisors.length; i++) {
+            if (n % divisors[i] == 0) {
+                result += words[i];
+            }
+        }
+        return result.isEmpty() ? null : n + ": " + result;
+    }
+
+    @Test
+    public void defaultTest() {
+        assertEquals(15, FizzBuzzRules.DEFAULT.getPeriod());
+        for (int n = -100; n < 1000; n++) {
+            assertEquals(bruteForce(new int[]{3, 5}, new String[]{"Fizz", "Buzz"}, n), FizzBuzzRules.DEFAULT.message(n));
+        }
+        for (int n = Integer.MIN_VALUE; n < Integer.MIN_VALUE + 30; n++) {
+            assertEquals(bruteForce(new int[]{3, 5}, new String[]{"Fizz", "Buzz"}, n), FizzBuzzRules.DEFAULT.message(n));
+        }
+    }
+
+    @Test
+    public void customRulesTest() {
+        int[] divisors = {2, 3, 7, 4};
+        String[] words = {"Foo", "Bar", "Baz", "Qux"};
+        FizzBuzzRules rules = new FizzBuzzRules(divisors, words);
+        assertEquals(84, rules.getPeriod());
+        for (int n = -200; n < 2000; n++) {
+            assertEquals(bruteForce(divisors, words, n), rules.message(n));
+        }
+        assertEquals("FooBarBazQux", rules.word(0));
+        assertNull(rules.word(1));
+    }
+
+    @Test
+    public void messagesTest() {
+        FizzBuzzRules rules = new FizzBuzzRules(new int[]{2}, new String[]{"Even"});
+        assertArrayEquals(new String[]{}, rules.messages(5, 5));
+        assertArrayEquals(new String[]{"4: Even", "6: Even"}, rules.messages(3, 8));
+        assertArrayEquals(FizzBuzz.messages(1, 116), FizzBuzzRules.DEFAULT.messages(1, 116));
+    }
+
+    @Test
+    public void writerTest() throws IOException {
+        FizzBuzzRules rules = new FizzBuzzRules(new int[]{2, 3, 7, 4}, new String[]{"Foo", "Bar", "Baz", "Qux"});
+        StringBuilder expected = new StringBuilder();
+        for (String message : rules.messages(0, 500)) {
+            expected.append(message).append('\n');
+        }
+        StringBuilder actual = new StringBuilder();
+        new FizzBuzzWriter(rules).write(0, 500, actual);
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void mismatchedRulesTest() {
+        new FizzBuzzRules(new int[]{3, 5}, new String[]{"Fizz"});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroDivisorTest() {
+        new FizzBuzzRules(new int[]{0}, new String[]{"Zero"});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void periodTooLargeTest() {
+        new FizzBuzzRules(new int[]{1000003, 1000033}, new String[]{"Big", "Bigger"});
+    }
+}
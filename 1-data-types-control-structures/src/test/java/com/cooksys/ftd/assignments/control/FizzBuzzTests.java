@@ -3,6 +3,9 @@ package com.cooksys.ftd.assignments.control;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.BitSet;
+
 import static org.junit.Assert.*;
 
 public class FizzBuzzTests {
@@ -52,4 +55,77 @@ public class FizzBuzzTests {
     public void messagesExceptionTest() {
         FizzBuzz.messages(20, 19);
     }
+
+    private static byte classOf(long n) {
+        return (byte) ((n % 3 == 0 ? FizzBuzz.FIZZ : 0) | (n % 5 == 0 ? FizzBuzz.BUZZ : 0));
+    }
+
+    @Test
+    public void countTest() {
+        for (int start = 0; start < 40; start++) {
+            for (int end = start; end < 100; end++) {
+                long fizz = 0, buzz = 0, fizzBuzz = 0;
+                for (int n = start; n < end; n++) {
+                    switch (classOf(n)) {
+                        case FizzBuzz.FIZZ: fizz++; break;
+                        case FizzBuzz.BUZZ: buzz++; break;
+                        case FizzBuzz.FIZZ_BUZZ: fizzBuzz++; break;
+                    }
+                }
+                assertEquals(fizz, FizzBuzz.countFizz(start, end));
+                assertEquals(buzz, FizzBuzz.countBuzz(start, end));
+                assertEquals(fizzBuzz, FizzBuzz.countFizzBuzz(start, end));
+            }
+        }
+        assertEquals(FizzBuzz.messages(1, 116).length,
+                FizzBuzz.countFizz(1, 116) + FizzBuzz.countBuzz(1, 116) + FizzBuzz.countFizzBuzz(1, 116));
+        assertEquals(4000000000000000L, FizzBuzz.countFizz(0, 15000000000000000L));
+        assertEquals(2000000000000000L, FizzBuzz.countBuzz(0, 15000000000000000L));
+        assertEquals(1000000000000000L, FizzBuzz.countFizzBuzz(0, 15000000000000000L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void countExceptionTest() {
+        FizzBuzz.countFizz(20, 19);
+    }
+
+    @Test
+    public void classifyTest() {
+        for (int start = 0; start < 20; start++) {
+            for (int end = start; end < 200; end += 7) {
+                byte[] classes = FizzBuzz.classify(start, end);
+                assertEquals(end - start, classes.length);
+                for (int i = 0; i < classes.length; i++) {
+                    assertEquals(classOf(start + i), classes[i]);
+                }
+
+                BitSet bits = FizzBuzz.classifyBits(start, end);
+                for (int i = 0; i < classes.length; i++) {
+                    assertEquals(classes[i] & FizzBuzz.FIZZ, bits.get(2 * i) ? FizzBuzz.FIZZ : 0);
+                    assertEquals(classes[i] & FizzBuzz.BUZZ, bits.get(2 * i + 1) ? FizzBuzz.BUZZ : 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void classifyOffsetTest() {
+        byte[] classes = new byte[1000];
+        Arrays.fill(classes, (byte) -1);
+        FizzBuzz.classify(Long.MAX_VALUE - 990, classes, 5, 990);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(-1, classes[i]);
+        }
+        for (int i = 0; i < 990; i++) {
+            assertEquals(classOf(Long.MAX_VALUE - 990 + i), classes[5 + i]);
+        }
+        for (int i = 995; i < 1000; i++) {
+            assertEquals(-1, classes[i]);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void classifyExceptionTest() {
+        FizzBuzz.classify(0, new byte[10], 5, 6);
+    }
 }
@@ -0,0 +1,163 @@
+package com.cooksys.ftd.assignments.control;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+public class FizzBuzzWriterTests {
+
+    private static final ForkJoinPool POOL = new ForkJoinPool(3);
+
+    @AfterClass
+    public static void shutdownPool() {
+        POOL.shutdown();
+    }
+
+    private static String expected(int start, int end) {
+        StringBuilder builder = new StringBuilder();
+        for (String message : FizzBuzz.messages(start, end)) {
+            builder.append(message).append('\n');
+        }
+        return builder.toString();
+    }
+
+    @Test
+    public void writeAppendableTest() throws IOException {
+        int[][] ranges = {{0, 0}, {1, 2}, {3, 4}, {0, 16}, {1, 116}, {7, 1000}, {99990, 100020}};
+        for (int[] range : ranges) {
+            String expected = expected(range[0], range[1]);
+
+            StringBuilder builder = new StringBuilder();
+            FizzBuzzWriter.DEFAULT.write(range[0], range[1], builder);
+            assertEquals(expected, builder.toString());
+
+            StringWriter writer = new StringWriter();
+            FizzBuzzWriter.DEFAULT.write(range[0], range[1], writer);
+            assertEquals(expected, writer.toString());
+
+            // neither a StringBuilder nor a Writer
+            StringBuffer buffer = new StringBuffer();
+            FizzBuzzWriter.DEFAULT.write(range[0], range[1], buffer);
+            assertEquals(expected, buffer.toString());
+        }
+    }
+
+    @Test
+    public void writeLargeNumbersTest() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        FizzBuzzWriter.DEFAULT.write(Long.MAX_VALUE - 8, Long.MAX_VALUE, builder);
+        assertEquals("9223372036854775800: FizzBuzz\n"
+                + "9223372036854775803: Fizz\n"
+                + "9223372036854775805: Buzz\n"
+                + "9223372036854775806: Fizz\n", builder.toString());
+    }
+
+    @Test
+    public void writeCharBufferTest() {
+        String expected = expected(1, 1000);
+        CharBuffer buffer = CharBuffer.allocate(expected.length());
+        assertEquals(1000, FizzBuzzWriter.DEFAULT.write(1, 1000, buffer));
+        buffer.flip();
+        assertEquals(expected, buffer.toString());
+    }
+
+    @Test
+    public void writeCharBufferResumeTest() {
+        String expected = expected(1, 1000);
+        StringBuilder builder = new StringBuilder();
+        CharBuffer buffer = CharBuffer.allocate(50);
+        long next = 1;
+        while (next < 1000) {
+            next = FizzBuzzWriter.DEFAULT.write(next, 1000, buffer);
+            buffer.flip();
+            builder.append(buffer);
+            buffer.clear();
+        }
+        assertEquals(expected, builder.toString());
+    }
+
+    @Test
+    public void writeByteBufferResumeTest() {
+        String expected = expected(1, 5000);
+        ByteBuffer all = ByteBuffer.allocate(expected.length());
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        long next = 1;
+        while (next < 5000) {
+            long resumed = FizzBuzzWriter.DEFAULT.write(next, 5000, buffer);
+            assertTrue(resumed > next);
+            next = resumed;
+            buffer.flip();
+            all.put(buffer);
+            buffer.clear();
+        }
+        assertEquals(expected, new String(all.array(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void writeFullBufferTest() {
+        ByteBuffer buffer = ByteBuffer.allocate(5);
+        assertEquals(3, FizzBuzzWriter.DEFAULT.write(1, 10, buffer));
+        assertEquals(0, buffer.position());
+    }
+
+    @Test
+    public void writeParallelTest() throws IOException {
+        long[][] ranges = {{0, 0}, {1, 116}, {3, 3 + 5 * FizzBuzzWriter.PARALLEL_CHUNK_SIZE + 17}};
+        for (long[] range : ranges) {
+            StringBuilder expected = new StringBuilder();
+            FizzBuzzWriter.DEFAULT.write(range[0], range[1], expected);
+
+            Path file = Files.createTempFile("fizzbuzz", ".txt");
+            try {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    FizzBuzzWriter.DEFAULT.writeParallel(range[0], range[1], channel, POOL);
+                }
+                assertEquals(expected.toString(), new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+            } finally {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void writeParallelLargePeriodTest() throws IOException {
+        // the primes up to 17 have a period of 510510, far longer than a chunk, and match most numbers
+        int[] divisors = {2, 3, 5, 7, 11, 13, 17};
+        String[] words = new String[divisors.length];
+        for (int i = 0; i < divisors.length; ++i) {
+            words[i] = "Word" + divisors[i];
+        }
+        FizzBuzzWriter writer = new FizzBuzzWriter(new FizzBuzzRules(divisors, words));
+        long start = 1;
+        long end = start + 3 * FizzBuzzWriter.PARALLEL_CHUNK_SIZE + 5;
+        StringBuilder expected = new StringBuilder();
+        writer.write(start, end, expected);
+
+        Path file = Files.createTempFile("fizzbuzz", ".txt");
+        try {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                writer.writeParallel(start, end, channel, POOL);
+            }
+            assertEquals(expected.toString(), new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void writeExceptionTest() throws IOException {
+        FizzBuzzWriter.DEFAULT.write(20, 19, new StringBuilder());
+    }
+}
@@ -0,0 +1,94 @@
+package com.cooksys.ftd.assignments.control;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.Assert.*;
+
+public class LinearRecurrenceTests {
+
+    private static BigInteger[] bruteForce(long[] coefficients, long[] seeds, int count) {
+        BigInteger[] elements = new BigInteger[count];
+        for (int n = 0; n < count; n++) {
+            if (n < seeds.length) {
+                elements[n] = BigInteger.valueOf(seeds[n]);
+            } else {
+                BigInteger sum = BigInteger.ZERO;
+                for (int i = 0; i < coefficients.length; i++) {
+                    sum = sum.add(BigInteger.valueOf(coefficients[i]).multiply(elements[n - 1 - i]));
+                }
+                elements[n] = sum;
+            }
+        }
+        return elements;
+    }
+
+    @Test
+    public void fibonacciTest() {
+        for (int i = 0; i < 300; i++) {
+            assertEquals(Fibonacci.atIndex(i), (int) LinearRecurrence.FIBONACCI.atIndex(i));
+            assertEquals(Fibonacci.atIndexBig(i), LinearRecurrence.FIBONACCI.atIndexBig(i));
+            assertEquals(Fibonacci.atIndexMod(i, 1000000007), LinearRecurrence.FIBONACCI.atIndexMod(i, 1000000007));
+        }
+        for (int i = 0; i <= Fibonacci.MAX_LONG_INDEX; i++) {
+            assertEquals(Fibonacci.atIndexLong(i), LinearRecurrence.FIBONACCI.atIndex(i));
+        }
+        assertEquals(Fibonacci.atIndexMod(1000000000000000000L, 65537),
+                LinearRecurrence.FIBONACCI.atIndexMod(1000000000000000000L, 65537));
+    }
+
+    @Test
+    public void lucasAndTribonacciTest() {
+        assertArrayEquals(new long[]{2, 1, 3, 4, 7, 11, 18, 29}, LinearRecurrence.LUCAS.atIndices(new long[]{0, 1, 2, 3, 4, 5, 6, 7}));
+        assertArrayEquals(new long[]{0, 0, 1, 1, 2, 4, 7, 13, 24}, LinearRecurrence.TRIBONACCI.atIndices(new long[]{0, 1, 2, 3, 4, 5, 6, 7, 8}));
+        assertEquals(3, LinearRecurrence.TRIBONACCI.getOrder());
+    }
+
+    @Test
+    public void batchTest() {
+        long[] coefficients = {3, -1, 0, 2};
+        long[] seeds = {5, -7, 11, 0};
+        LinearRecurrence recurrence = new LinearRecurrence(coefficients, seeds);
+        BigInteger[] expected = bruteForce(coefficients, seeds, 200);
+
+        long[] indices = {199, 0, 3, 3, 57, 128, 1, 64, 4};
+        long[] longs = recurrence.atIndices(indices);
+        int[] mods = recurrence.atIndicesMod(indices, 1000003);
+        BigInteger[] bigs = recurrence.atIndicesBig(indices);
+        for (int i = 0; i < indices.length; i++) {
+            BigInteger element = expected[(int) indices[i]];
+            assertEquals(element, bigs[i]);
+            assertEquals(element.longValue(), longs[i]);
+            assertEquals(element.mod(BigInteger.valueOf(1000003)).intValue(), mods[i]);
+        }
+        assertEquals(0, recurrence.atIndicesMod(new long[]{}, 7).length);
+    }
+
+    @Test
+    public void modTest() {
+        LinearRecurrence recurrence = new LinearRecurrence(new long[]{Long.MAX_VALUE, Long.MIN_VALUE}, new long[]{-1, 1});
+        BigInteger[] expected = bruteForce(new long[]{Long.MAX_VALUE, Long.MIN_VALUE}, new long[]{-1, 1}, 100);
+        int[] moduli = {1, 2, 97, Integer.MAX_VALUE};
+        for (int m : moduli) {
+            for (int n = 0; n < expected.length; n++) {
+                assertEquals(expected[n].mod(BigInteger.valueOf(m)).intValue(), recurrence.atIndexMod(n, m));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeIndexTest() {
+        LinearRecurrence.LUCAS.atIndices(new long[]{1, -1});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void modulusExceptionTest() {
+        LinearRecurrence.LUCAS.atIndexMod(1, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructorExceptionTest() {
+        new LinearRecurrence(new long[]{1, 1}, new long[]{1});
+    }
+}
@@ -0,0 +1,186 @@
+package com.cooksys.ftd.assignments.objects;
+
+import java.math.BigInteger;
+
+/**
+ * Rational values whose numerator and denominator are `BigInteger` values. This is the type `IRational`'s exact
+ * arithmetic (`addExact`, `subExact`, `mulExact`, `divExact`) promotes to when a result no longer fits in `long`s.
+ * <p>
+ * Values are always kept in lowest terms with a positive denominator. The `int` and `long` accessors throw an
+ * `ArithmeticException` when the value does not fit; `getBigNumerator()` and `getBigDenominator()` always succeed.
+ * Every arithmetic operation on this type is exact.
+ */
+public class BigRational implements IRational {
+    private final BigInteger numerator;
+    private final BigInteger denominator;
+
+    /**
+     * Constructor for rational values of the type:
+     * <p>
+     * `numerator / denominator`
+     * <p>
+     * The value is reduced to lowest terms, with the sign carried by the numerator.
+     *
+     * @param numerator   the numerator of the rational value
+     * @param denominator the denominator of the rational value
+     * @throws IllegalArgumentException if either value is null or if the given denominator is 0
+     */
+    public BigRational(BigInteger numerator, BigInteger denominator) throws IllegalArgumentException {
+        if (numerator == null || denominator == null || denominator.signum() == 0) throw new IllegalArgumentException();
+        if (numerator.signum() == 0) {
+            denominator = BigInteger.ONE;
+        } else {
+            BigInteger gcd = numerator.gcd(denominator);
+            if (!gcd.equals(BigInteger.ONE)) {
+                numerator = numerator.divide(gcd);
+                denominator = denominator.divide(gcd);
+            }
+            if (denominator.signum() < 0) {
+                numerator = numerator.negate();
+                denominator = denominator.negate();
+            }
+        }
+        this.numerator = numerator;
+        this.denominator = denominator;
+    }
+
+    /**
+     * @return the numerator of this rational number
+     * @throws ArithmeticException if the numerator does not fit in an `int`
+     */
+    @Override
+    public int getNumerator() throws ArithmeticException {
+        return this.numerator.intValueExact();
+    }
+
+    /**
+     * @return the denominator of this rational number
+     * @throws ArithmeticException if the denominator does not fit in an `int`
+     */
+    @Override
+    public int getDenominator() throws ArithmeticException {
+        return this.denominator.intValueExact();
+    }
+
+    /**
+     * @throws ArithmeticException if the numerator does not fit in a `long`
+     */
+    @Override
+    public long getLongNumerator() throws ArithmeticException {
+        return this.numerator.longValueExact();
+    }
+
+    /**
+     * @throws ArithmeticException if the denominator does not fit in a `long`
+     */
+    @Override
+    public long getLongDenominator() throws ArithmeticException {
+        return this.denominator.longValueExact();
+    }
+
+    @Override
+    public BigInteger getBigNumerator() {
+        return this.numerator;
+    }
+
+    @Override
+    public BigInteger getBigDenominator() {
+        return this.denominator;
+    }
+
+    @Override
+    public double toDouble() {
+        return RationalArithmetic.toDouble(this.numerator, this.denominator);
+    }
+
+    /**
+     * Specializable constructor to take advantage of shared code between the implementations of IRational
+     *
+     * @param numerator   the numerator of the rational value to construct
+     * @param denominator the denominator of the rational value to construct
+     * @return the constructed rational value (specifically, a BigRational value)
+     * @throws IllegalArgumentException if the given denominator is 0
+     */
+    @Override
+    public BigRational construct(int numerator, int denominator) throws IllegalArgumentException {
+        return new BigRational(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+    }
+
+    /**
+     * Exact negation
+     */
+    @Override
+    public IRational negate() {
+        return RationalArithmetic.toRational(this, this.numerator.negate(), this.denominator);
+    }
+
+    /**
+     * Exact inversion
+     */
+    @Override
+    public IRational invert() throws IllegalStateException {
+        if (this.numerator.signum() == 0) throw new IllegalStateException();
+        return RationalArithmetic.toRational(this, this.denominator, this.numerator);
+    }
+
+    /**
+     * Exact addition, see `addExact`
+     */
+    @Override
+    public IRational add(IRational that) throws IllegalArgumentException {
+        return addExact(that);
+    }
+
+    /**
+     * Exact subtraction, see `subExact`
+     */
+    @Override
+    public IRational sub(IRational that) throws IllegalArgumentException {
+        return subExact(that);
+    }
+
+    /**
+     * Exact multiplication, see `mulExact`
+     */
+    @Override
+    public IRational mul(IRational that) throws IllegalArgumentException {
+        return mulExact(that);
+    }
+
+    /**
+     * Exact division, see `divExact`
+     */
+    @Override
+    public IRational div(IRational that) throws IllegalArgumentException {
+        return divExact(that);
+    }
+
+    /**
+     * @param obj the object to check this against for equality
+     * @return true if the given obj is a BigRational value and its
+     * numerator and denominator are equal to this rational value's numerator and denominator,
+     * false otherwise
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof BigRational) {
+            BigRational that = (BigRational) obj;
+            return this.numerator.equals(that.numerator) && this.denominator.equals(that.denominator);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * this.numerator.hashCode() + this.denominator.hashCode();
+    }
+
+    /**
+     * @return a string representation of this rational value, of the form `numerator/denominator` if it is
+     * positive, or `-numerator/denominator` if it is negative
+     */
+    @Override
+    public String toString() {
+        return this.numerator + "/" + this.denominator;
+    }
+}
@@ -2,7 +2,9 @@ package com.cooksys.ftd.assignments.objects;
 
 import sun.reflect.generics.reflectiveObjects.NotImplementedException;
 
-interface IRational {
+import java.math.BigInteger;
+
+interface IRational extends Comparable<IRational> {
 
     /**
      * @return the numerator of this rational number
@@ -14,6 +16,34 @@ interface IRational {
      */
     int getDenominator();
 
+    /**
+     * @return the numerator of this rational number, as a `long`
+     */
+    default long getLongNumerator() {
+        return getNumerator();
+    }
+
+    /**
+     * @return the denominator of this rational number, as a `long`
+     */
+    default long getLongDenominator() {
+        return getDenominator();
+    }
+
+    /**
+     * @return the numerator of this rational number, as a `BigInteger`
+     */
+    default BigInteger getBigNumerator() {
+        return BigInteger.valueOf(getLongNumerator());
+    }
+
+    /**
+     * @return the denominator of this rational number, as a `BigInteger`
+     */
+    default BigInteger getBigDenominator() {
+        return BigInteger.valueOf(getLongDenominator());
+    }
+
     /**
      * Specializable constructor to take advantage of shared code between Rational and SimplifiedRational
      * <p>
@@ -128,4 +158,85 @@ interface IRational {
         int n2 = that.getNumerator();
         return construct((n1 * d2),(d1 * n2));
     }
+
+    /**
+     * overflow-aware addition of rational values
+     * <p>
+     * Unlike `add`, whose `int` arithmetic wraps around on overflow, the result is always exact: it is built with
+     * `construct` if it fits in `int`s, and promoted to a `LongRational` or `BigRational` otherwise.
+     *
+     * @param that the value to add to this
+     * @return the exact sum of this and that
+     * @throws IllegalArgumentException if that is null
+     */
+    default IRational addExact(IRational that) throws IllegalArgumentException {
+        return RationalArithmetic.add(this, that, false);
+    }
+
+    /**
+     * overflow-aware subtraction of rational values, see `addExact`
+     *
+     * @param that the value to subtract from this
+     * @return the exact difference between this and that
+     * @throws IllegalArgumentException if that is null
+     */
+    default IRational subExact(IRational that) throws IllegalArgumentException {
+        return RationalArithmetic.add(this, that, true);
+    }
+
+    /**
+     * overflow-aware multiplication of rational values, see `addExact`
+     *
+     * @param that the value to multiply this by
+     * @return the exact product of this and that
+     * @throws IllegalArgumentException if that is null
+     */
+    default IRational mulExact(IRational that) throws IllegalArgumentException {
+        return RationalArithmetic.mul(this, that);
+    }
+
+    /**
+     * overflow-aware division of rational values, see `addExact`
+     *
+     * @param that the value to divide this by
+     * @return the exact ratio of this to that
+     * @throws IllegalArgumentException if that is null or if the numerator of that is 0
+     */
+    default IRational divExact(IRational that) throws IllegalArgumentException {
+        return RationalArithmetic.div(this, that);
+    }
+
+    /**
+     * Converts this value to the nearest `double`, rounding ties to even, exactly like converting the value of the
+     * fraction would.
+     * <p>
+     * When both the numerator and the denominator are exactly representable as `double`s (up to `2^53` in
+     * magnitude, which includes all `int` values), a single floating-point division is already correctly rounded;
+     * wider values are divided exactly in `BigInteger`s.
+     *
+     * @return the value of this rational number, rounded to a `double`
+     */
+    default double toDouble() {
+        if (RationalArithmetic.isWide(this)) return RationalArithmetic.toDouble(getBigNumerator(), getBigDenominator());
+        long n = getLongNumerator();
+        long d = getLongDenominator();
+        if (n >= -(1L << 53) && n <= 1L << 53 && d >= -(1L << 53) && d <= 1L << 53) return (double) n / d;
+        return RationalArithmetic.toDouble(BigInteger.valueOf(n), BigInteger.valueOf(d));
+    }
+
+    /**
+     * Compares the values of two rational numbers, regardless of their representation: `1/2`, `2/4` and `-1/-2`
+     * compare as equal, even though they are not `equals` as `Rational` values.
+     * <p>
+     * The values are compared by cross-multiplying in `long`s, which cannot overflow for `int` numerators and
+     * denominators and needs no division; wider values fall back to `BigInteger` arithmetic.
+     *
+     * @param that the value to compare this to
+     * @return a negative value, 0, or a positive value if this is less than, equal to, or greater than that
+     * @throws IllegalArgumentException if that is null
+     */
+    @Override
+    default int compareTo(IRational that) throws IllegalArgumentException {
+        return RationalArithmetic.compare(this, that);
+    }
 }
@@ -0,0 +1,242 @@
+package com.cooksys.ftd.assignments.objects;
+
+import java.math.BigInteger;
+
+/**
+ * Rational values whose simplification is deferred until the value is observed, for long chains of arithmetic.
+ * <p>
+ * Arithmetic between lazy values just cross-multiplies their raw `long` numerators and denominators, without any
+ * GCD. The value is only reduced (once, and cached) when it is observed through `getNumerator()`,
+ * `getDenominator()` (and their `long`/`BigInteger` variants), `equals`, `hashCode` or `toString`, or when an
+ * operation on the raw values would overflow a `long`, in which case the operation falls back to exact arithmetic
+ * on the reduced values (see `IRational.addExact`), and may promote the result to a LongRational or a BigRational.
+ * <p>
+ * Like SimplifiedRational, two lazy values are equal if their simplified forms are; the observed denominator is
+ * always positive.
+ */
+public class LazyRational implements IRational {
+    private final long numerator;
+    private final long denominator;
+
+    // the reduced form of this value once observed: a LongRational, or a BigRational for `Long.MIN_VALUE` corner cases
+    private IRational normalized;
+
+    /**
+     * Constructor for rational values of the type:
+     * <p>
+     * `numerator / denominator`
+     * <p>
+     * No simplification occurs until the value is observed.
+     *
+     * @param numerator   the numerator of the rational value
+     * @param denominator the denominator of the rational value
+     * @throws IllegalArgumentException if the given denominator is 0
+     */
+    public LazyRational(long numerator, long denominator) throws IllegalArgumentException {
+        if (denominator == 0) throw new IllegalArgumentException();
+        this.numerator = numerator;
+        this.denominator = denominator;
+    }
+
+    /**
+     * @return the numerator of the simplified form of this rational number
+     * @throws ArithmeticException if the numerator does not fit in an `int`
+     */
+    @Override
+    public int getNumerator() throws ArithmeticException {
+        return normalized().getNumerator();
+    }
+
+    /**
+     * @return the denominator of the simplified form of this rational number
+     * @throws ArithmeticException if the denominator does not fit in an `int`
+     */
+    @Override
+    public int getDenominator() throws ArithmeticException {
+        return normalized().getDenominator();
+    }
+
+    @Override
+    public long getLongNumerator() throws ArithmeticException {
+        return normalized().getLongNumerator();
+    }
+
+    @Override
+    public long getLongDenominator() throws ArithmeticException {
+        return normalized().getLongDenominator();
+    }
+
+    @Override
+    public BigInteger getBigNumerator() {
+        return normalized().getBigNumerator();
+    }
+
+    @Override
+    public BigInteger getBigDenominator() {
+        return normalized().getBigDenominator();
+    }
+
+    /**
+     * Specializable constructor to take advantage of shared code between the implementations of IRational
+     *
+     * @param numerator   the numerator of the rational value to construct
+     * @param denominator the denominator of the rational value to construct
+     * @return the constructed rational value (specifically, a LazyRational value)
+     * @throws IllegalArgumentException if the given denominator is 0
+     */
+    @Override
+    public LazyRational construct(int numerator, int denominator) throws IllegalArgumentException {
+        return new LazyRational(numerator, denominator);
+    }
+
+    /**
+     * Negation without simplification
+     */
+    @Override
+    public IRational negate() {
+        if (this.numerator != Long.MIN_VALUE) return new LazyRational(-this.numerator, this.denominator);
+        if (this.denominator != Long.MIN_VALUE) return new LazyRational(this.numerator, -this.denominator);
+        return new LazyRational(-1, 1);
+    }
+
+    /**
+     * Inversion without simplification
+     *
+     * @throws IllegalStateException if the numerator of this rational value is 0
+     */
+    @Override
+    public IRational invert() throws IllegalStateException {
+        if (this.numerator == 0) throw new IllegalStateException();
+        return new LazyRational(this.denominator, this.numerator);
+    }
+
+    /**
+     * Exact addition, without simplification unless the raw values overflow
+     */
+    @Override
+    public IRational add(IRational that) throws IllegalArgumentException {
+        return sum(that, false);
+    }
+
+    /**
+     * Exact subtraction, without simplification unless the raw values overflow
+     */
+    @Override
+    public IRational sub(IRational that) throws IllegalArgumentException {
+        return sum(that, true);
+    }
+
+    /**
+     * Exact multiplication, without simplification unless the raw values overflow
+     */
+    @Override
+    public IRational mul(IRational that) throws IllegalArgumentException {
+        if (that == null) throw new IllegalArgumentException();
+        if (!(that instanceof BigRational)) {
+            try {
+                return new LazyRational(Math.multiplyExact(this.numerator, rawNumerator(that)),
+                        Math.multiplyExact(this.denominator, rawDenominator(that)));
+            } catch (ArithmeticException e) {
+                // fall through to reduced arithmetic
+            }
+        }
+        return RationalArithmetic.mul(this, that);
+    }
+
+    /**
+     * Exact division, without simplification unless the raw values overflow
+     *
+     * @throws IllegalArgumentException if that is null or if the numerator of that is 0
+     */
+    @Override
+    public IRational div(IRational that) throws IllegalArgumentException {
+        if (that == null) throw new IllegalArgumentException();
+        if (!(that instanceof BigRational)) {
+            long n = rawNumerator(that);
+            if (n == 0) throw new IllegalArgumentException();
+            try {
+                return new LazyRational(Math.multiplyExact(this.numerator, rawDenominator(that)),
+                        Math.multiplyExact(this.denominator, n));
+            } catch (ArithmeticException e) {
+                // fall through to reduced arithmetic
+            }
+        }
+        return RationalArithmetic.div(this, that);
+    }
+
+    /**
+     * @param obj the object to check this against for equality
+     * @return true if the given obj is a LazyRational value with the same simplified numerator and denominator as
+     * this rational value, false otherwise
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof LazyRational) {
+            return normalized().equals(((LazyRational) obj).normalized());
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return normalized().hashCode();
+    }
+
+    /**
+     * @return a string representation of the simplified form of this rational value, of the form
+     * `numerator/denominator` if it is positive, or `-numerator/denominator` if it is negative
+     */
+    @Override
+    public String toString() {
+        return normalized().toString();
+    }
+
+    private IRational sum(IRational that, boolean subtract) throws IllegalArgumentException {
+        if (that == null) throw new IllegalArgumentException();
+        if (!(that instanceof BigRational)) {
+            long n = rawNumerator(that);
+            long d = rawDenominator(that);
+            try {
+                long a = Math.multiplyExact(this.numerator, d);
+                long b = Math.multiplyExact(n, this.denominator);
+                return new LazyRational(subtract ? Math.subtractExact(a, b) : Math.addExact(a, b),
+                        Math.multiplyExact(this.denominator, d));
+            } catch (ArithmeticException e) {
+                // fall through to reduced arithmetic
+            }
+        }
+        return RationalArithmetic.add(this, that, subtract);
+    }
+
+    /**
+     * Reduces this value, the first time it is observed. Racing threads compute the same immutable value, so the
+     * field needs no synchronization.
+     */
+    private IRational normalized() {
+        IRational normalized = this.normalized;
+        if (normalized == null) {
+            try {
+                normalized = new LongRational(this.numerator, this.denominator);
+            } catch (ArithmeticException e) {
+                normalized = new BigRational(BigInteger.valueOf(this.numerator), BigInteger.valueOf(this.denominator));
+            }
+            this.normalized = normalized;
+        }
+        return normalized;
+    }
+
+    /**
+     * @return true if the reduced form of this value does not fit in `long`s, see `RationalArithmetic.isWide`
+     */
+    boolean isWide() {
+        return normalized() instanceof BigRational;
+    }
+
+    private static long rawNumerator(IRational value) {
+        return value instanceof LazyRational ? ((LazyRational) value).numerator : value.getLongNumerator();
+    }
+
+    private static long rawDenominator(IRational value) {
+        return value instanceof LazyRational ? ((LazyRational) value).denominator : value.getLongDenominator();
+    }
+}
@@ -0,0 +1,166 @@
+package com.cooksys.ftd.assignments.objects;
+
+/**
+ * Rational values whose numerator and denominator are `long` values. This is the type `IRational`'s exact
+ * arithmetic (`addExact`, `subExact`, `mulExact`, `divExact`) promotes to when a result no longer fits in `int`s.
+ * <p>
+ * Values are always kept in lowest terms with a positive denominator. Since the `IRational` accessors return
+ * `int`s, `getNumerator()` and `getDenominator()` throw an `ArithmeticException` when the value does not fit;
+ * `getLongNumerator()` and `getLongDenominator()` always succeed. Every arithmetic operation on this type is exact.
+ */
+public class LongRational implements IRational {
+    private final long numerator;
+    private final long denominator;
+
+    /**
+     * Constructor for rational values of the type:
+     * <p>
+     * `numerator / denominator`
+     * <p>
+     * The value is reduced to lowest terms, with the sign carried by the numerator.
+     *
+     * @param numerator   the numerator of the rational value
+     * @param denominator the denominator of the rational value
+     * @throws IllegalArgumentException if the given denominator is 0
+     * @throws ArithmeticException      if the reduced value cannot be represented with a positive `long`
+     *                                  denominator (which can only happen with `Long.MIN_VALUE` operands)
+     */
+    public LongRational(long numerator, long denominator) throws IllegalArgumentException, ArithmeticException {
+        if (denominator == 0) throw new IllegalArgumentException();
+        if (numerator == 0) {
+            denominator = 1;
+        } else {
+            long gcd = RationalArithmetic.gcd(numerator, denominator);
+            numerator /= gcd;
+            denominator /= gcd;
+            if (denominator < 0) {
+                numerator = Math.negateExact(numerator);
+                denominator = Math.negateExact(denominator);
+            }
+        }
+        this.numerator = numerator;
+        this.denominator = denominator;
+    }
+
+    /**
+     * @return the numerator of this rational number
+     * @throws ArithmeticException if the numerator does not fit in an `int`
+     */
+    @Override
+    public int getNumerator() throws ArithmeticException {
+        return Math.toIntExact(this.numerator);
+    }
+
+    /**
+     * @return the denominator of this rational number
+     * @throws ArithmeticException if the denominator does not fit in an `int`
+     */
+    @Override
+    public int getDenominator() throws ArithmeticException {
+        return Math.toIntExact(this.denominator);
+    }
+
+    @Override
+    public long getLongNumerator() {
+        return this.numerator;
+    }
+
+    @Override
+    public long getLongDenominator() {
+        return this.denominator;
+    }
+
+    /**
+     * Specializable constructor to take advantage of shared code between the implementations of IRational
+     *
+     * @param numerator   the numerator of the rational value to construct
+     * @param denominator the denominator of the rational value to construct
+     * @return the constructed rational value (specifically, a LongRational value)
+     * @throws IllegalArgumentException if the given denominator is 0
+     */
+    @Override
+    public LongRational construct(int numerator, int denominator) throws IllegalArgumentException {
+        return new LongRational(numerator, denominator);
+    }
+
+    /**
+     * Exact negation, which only leaves the `long` range for `Long.MIN_VALUE / 1`
+     */
+    @Override
+    public IRational negate() {
+        if (this.numerator == Long.MIN_VALUE) {
+            return RationalArithmetic.toRational(this, getBigNumerator().negate(), getBigDenominator());
+        }
+        return RationalArithmetic.toRational(this, -this.numerator, this.denominator);
+    }
+
+    /**
+     * Exact inversion, which only leaves the `long` range for `1 / Long.MIN_VALUE`
+     */
+    @Override
+    public IRational invert() throws IllegalStateException {
+        if (this.numerator == 0) throw new IllegalStateException();
+        return RationalArithmetic.toRational(this, this.denominator, this.numerator);
+    }
+
+    /**
+     * Exact addition, see `addExact`
+     */
+    @Override
+    public IRational add(IRational that) throws IllegalArgumentException {
+        return addExact(that);
+    }
+
+    /**
+     * Exact subtraction, see `subExact`
+     */
+    @Override
+    public IRational sub(IRational that) throws IllegalArgumentException {
+        return subExact(that);
+    }
+
+    /**
+     * Exact multiplication, see `mulExact`
+     */
+    @Override
+    public IRational mul(IRational that) throws IllegalArgumentException {
+        return mulExact(that);
+    }
+
+    /**
+     * Exact division, see `divExact`
+     */
+    @Override
+    public IRational div(IRational that) throws IllegalArgumentException {
+        return divExact(that);
+    }
+
+    /**
+     * @param obj the object to check this against for equality
+     * @return true if the given obj is a LongRational value and its
+     * numerator and denominator are equal to this rational value's numerator and denominator,
+     * false otherwise
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof LongRational) {
+            LongRational that = (LongRational) obj;
+            return this.numerator == that.numerator && this.denominator == that.denominator;
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(this.numerator) + Long.hashCode(this.denominator);
+    }
+
+    /**
+     * @return a string representation of this rational value, of the form `numerator/denominator` if it is
+     * positive, or `-numerator/denominator` if it is negative
+     */
+    @Override
+    public String toString() {
+        return this.numerator + "/" + this.denominator;
+    }
+}
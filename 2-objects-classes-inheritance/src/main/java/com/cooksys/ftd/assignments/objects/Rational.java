@@ -3,8 +3,8 @@ package com.cooksys.ftd.assignments.objects;
 import sun.reflect.generics.reflectiveObjects.NotImplementedException;
 
 public class Rational implements IRational {
-	private int numerator;
-	private int denominator;
+	private final int numerator;
+	private final int denominator;
     /**
      * Constructor for rational values of the type:
      * <p>
@@ -22,6 +22,22 @@ public class Rational implements IRational {
     	this.denominator = denominator;
     }
 
+    /**
+     * Returns the fraction closest to `value` among those whose denominator is at most `maxDenominator`, found from
+     * the continued fraction expansion of `value` without any floating-point arithmetic (see
+     * `RationalArithmetic.bestApproximation`).
+     *
+     * @param value          the value to approximate
+     * @param maxDenominator the greatest denominator allowed
+     * @return the best approximation of value, in lowest terms with a positive denominator
+     * @throws IllegalArgumentException if value is not finite, if maxDenominator is less than 1, or if the
+     *                                  numerator of the approximation does not fit in an `int`
+     */
+    public static Rational fromDouble(double value, int maxDenominator) throws IllegalArgumentException {
+        long packed = RationalArithmetic.bestApproximation(value, maxDenominator);
+        return new Rational((int) (packed >> 32), (int) packed);
+    }
+
     /**
      * @return the numerator of this rational number
      */
@@ -55,6 +71,79 @@ public class Rational implements IRational {
     	return new Rational(numerator, denominator);
     }
 
+    /**
+     * Negation specialised for Rational, see `add`
+     */
+    @Override
+    public final Rational negate() {
+        return new Rational(this.numerator * -1, this.denominator);
+    }
+
+    /**
+     * Inversion specialised for Rational, see `add`
+     *
+     * @throws IllegalStateException if the numerator of this rational value is 0
+     */
+    @Override
+    public final Rational invert() throws IllegalStateException {
+        if (this.numerator == 0) throw new IllegalStateException();
+        return new Rational(this.denominator, this.numerator);
+    }
+
+    /**
+     * Addition specialised for Rational, with the same wrap-around `int` arithmetic as `IRational.add`.
+     * <p>
+     * The default methods of IRational read both operands through interface getters and build the result with a
+     * virtual `construct`, so a call site that sees several implementations stops inlining them. This final
+     * method reads the fields of Rational operands directly and builds its result without any virtual call.
+     *
+     * @throws IllegalArgumentException if that is null
+     */
+    @Override
+    public final Rational add(IRational that) throws IllegalArgumentException {
+        if (that == null) throw new IllegalArgumentException();
+        int n2 = numeratorOf(that);
+        int d2 = denominatorOf(that);
+        return new Rational(this.numerator * d2 + n2 * this.denominator, this.denominator * d2);
+    }
+
+    /**
+     * Subtraction specialised for Rational, see `add`
+     *
+     * @throws IllegalArgumentException if that is null
+     */
+    @Override
+    public final Rational sub(IRational that) throws IllegalArgumentException {
+        if (that == null) throw new IllegalArgumentException();
+        int n2 = numeratorOf(that);
+        int d2 = denominatorOf(that);
+        return new Rational(this.numerator * d2 - n2 * this.denominator, this.denominator * d2);
+    }
+
+    /**
+     * Multiplication specialised for Rational, see `add`
+     *
+     * @throws IllegalArgumentException if that is null
+     */
+    @Override
+    public final Rational mul(IRational that) throws IllegalArgumentException {
+        if (that == null) throw new IllegalArgumentException();
+        return new Rational(this.numerator * numeratorOf(that), this.denominator * denominatorOf(that));
+    }
+
+    /**
+     * Division specialised for Rational, see `add`
+     *
+     * @throws IllegalArgumentException if that is null or if the numerator of that is 0
+     */
+    @Override
+    public final Rational div(IRational that) throws IllegalArgumentException {
+        if (that == null) throw new IllegalArgumentException();
+        int n2 = numeratorOf(that);
+        if (n2 == 0) throw new IllegalArgumentException();
+        return new Rational(this.numerator * denominatorOf(that), this.denominator * n2);
+    }
+
     /**
      * @param obj the object to check this against for equality
      * @return true if the given obj is a rational value and its
@@ -69,6 +158,14 @@ public class Rational implements IRational {
         }else return false;
     }
 
+    /**
+     * @return a hash code consistent with `equals`, combining the numerator and the denominator
+     */
+    @Override
+    public int hashCode() {
+    	return 31 * this.numerator + this.denominator;
+    }
+
     /**
      * If this is positive, the string should be of the form `numerator/denominator`
      * <p>
@@ -82,4 +179,12 @@ public class Rational implements IRational {
         if((this.numerator < 0 || this.denominator < 0) && !(this.numerator < 0 && this.denominator < 0)) return "-" + s;
         else return s;
     }
+
+    private static int numeratorOf(IRational value) {
+        return value instanceof Rational ? ((Rational) value).numerator : value.getNumerator();
+    }
+
+    private static int denominatorOf(IRational value) {
+        return value instanceof Rational ? ((Rational) value).denominator : value.getDenominator();
+    }
 }
@@ -0,0 +1,368 @@
+package com.cooksys.ftd.assignments.objects;
+
+import java.math.BigInteger;
+
+/**
+ * A mutable rational value for reductions: `add`, `sub`, `mul` and `div` update the accumulator in place and return
+ * it, so a loop over many `IRational` values allocates nothing as long as the running value fits in `long`s.
+ * <p>
+ * The running value is not kept in lowest terms. It is only reduced when an operation would overflow, and if it
+ * still does not fit once reduced, the accumulator switches to `BigInteger` values (and switches back once the value
+ * fits in `long`s again). Every operation is exact; `toRational()` produces the final, simplified value.
+ * <p>
+ * Accumulators are not thread-safe.
+ */
+public final class RationalAccumulator {
+    // the type results are built with when they fit in ints, see RationalArithmetic.toRational
+    private static final IRational RESULT_TYPE = SimplifiedRational.valueOf(0, 1);
+
+    private long numerator;
+    private long denominator;
+
+    // non-null only while the value does not fit in longs, in which case they replace the fields above
+    private BigInteger bigNumerator;
+    private BigInteger bigDenominator;
+
+    /**
+     * Creates an accumulator with the value `0`
+     */
+    public RationalAccumulator() {
+        this.denominator = 1;
+    }
+
+    /**
+     * Creates an accumulator with the value `numerator / denominator`
+     *
+     * @throws IllegalArgumentException if the given denominator is 0
+     */
+    public RationalAccumulator(long numerator, long denominator) throws IllegalArgumentException {
+        set(numerator, denominator);
+    }
+
+    /**
+     * Creates an accumulator with the same value as the given rational value
+     *
+     * @throws IllegalArgumentException if value is null
+     */
+    public RationalAccumulator(IRational value) throws IllegalArgumentException {
+        set(value);
+    }
+
+    /**
+     * Replaces the value of this accumulator with `numerator / denominator`
+     *
+     * @return this accumulator
+     * @throws IllegalArgumentException if the given denominator is 0
+     */
+    public RationalAccumulator set(long numerator, long denominator) throws IllegalArgumentException {
+        if (denominator == 0) throw new IllegalArgumentException();
+        this.numerator = numerator;
+        this.denominator = denominator;
+        this.bigNumerator = null;
+        this.bigDenominator = null;
+        return this;
+    }
+
+    /**
+     * Replaces the value of this accumulator with the value of the given rational value
+     *
+     * @return this accumulator
+     * @throws IllegalArgumentException if value is null
+     */
+    public RationalAccumulator set(IRational value) throws IllegalArgumentException {
+        if (value == null) throw new IllegalArgumentException();
+        if (RationalArithmetic.isWide(value)) {
+            setBig(value.getBigNumerator(), value.getBigDenominator());
+            return this;
+        }
+        return set(value.getLongNumerator(), value.getLongDenominator());
+    }
+
+    /**
+     * Resets this accumulator to `0`
+     *
+     * @return this accumulator
+     */
+    public RationalAccumulator clear() {
+        return set(0, 1);
+    }
+
+    /**
+     * `this += that`
+     *
+     * @return this accumulator
+     * @throws IllegalArgumentException if that is null
+     */
+    public RationalAccumulator add(IRational that) throws IllegalArgumentException {
+        return sum(that, false);
+    }
+
+    /**
+     * `this += numerator / denominator`
+     *
+     * @return this accumulator
+     * @throws IllegalArgumentException if the given denominator is 0
+     */
+    public RationalAccumulator add(long numerator, long denominator) throws IllegalArgumentException {
+        return sum(numerator, denominator, false);
+    }
+
+    /**
+     * `this -= that`
+     *
+     * @return this accumulator
+     * @throws IllegalArgumentException if that is null
+     */
+    public RationalAccumulator sub(IRational that) throws IllegalArgumentException {
+        return sum(that, true);
+    }
+
+    /**
+     * `this -= numerator / denominator`
+     *
+     * @return this accumulator
+     * @throws IllegalArgumentException if the given denominator is 0
+     */
+    public RationalAccumulator sub(long numerator, long denominator) throws IllegalArgumentException {
+        return sum(numerator, denominator, true);
+    }
+
+    /**
+     * `this *= that`
+     *
+     * @return this accumulator
+     * @throws IllegalArgumentException if that is null
+     */
+    public RationalAccumulator mul(IRational that) throws IllegalArgumentException {
+        if (that == null) throw new IllegalArgumentException();
+        if (this.bigNumerator != null || RationalArithmetic.isWide(that)) {
+            return productBig(that.getBigNumerator(), that.getBigDenominator());
+        }
+        return product(that.getLongNumerator(), that.getLongDenominator());
+    }
+
+    /**
+     * `this *= numerator / denominator`
+     *
+     * @return this accumulator
+     * @throws IllegalArgumentException if the given denominator is 0
+     */
+    public RationalAccumulator mul(long numerator, long denominator) throws IllegalArgumentException {
+        if (denominator == 0) throw new IllegalArgumentException();
+        return product(numerator, denominator);
+    }
+
+    /**
+     * `this /= that`
+     *
+     * @return this accumulator
+     * @throws IllegalArgumentException if that is null or if the numerator of that is 0
+     */
+    public RationalAccumulator div(IRational that) throws IllegalArgumentException {
+        if (that == null) throw new IllegalArgumentException();
+        if (this.bigNumerator != null || RationalArithmetic.isWide(that)) {
+            BigInteger n = that.getBigNumerator();
+            if (n.signum() == 0) throw new IllegalArgumentException();
+            return productBig(that.getBigDenominator(), n);
+        }
+        long n = that.getLongNumerator();
+        if (n == 0) throw new IllegalArgumentException();
+        return product(that.getLongDenominator(), n);
+    }
+
+    /**
+     * `this /= numerator / denominator`
+     *
+     * @return this accumulator
+     * @throws IllegalArgumentException if the given numerator or denominator is 0
+     */
+    public RationalAccumulator div(long numerator, long denominator) throws IllegalArgumentException {
+        if (numerator == 0 || denominator == 0) throw new IllegalArgumentException();
+        return product(denominator, numerator);
+    }
+
+    /**
+     * Adds the value of another accumulator to this one, leaving the other accumulator unchanged
+     *
+     * @return this accumulator
+     * @throws IllegalArgumentException if that is null
+     */
+    public RationalAccumulator add(RationalAccumulator that) throws IllegalArgumentException {
+        if (that == null) throw new IllegalArgumentException();
+        if (that.bigNumerator != null) return sumBig(that.bigNumerator, that.bigDenominator, false);
+        return sum(that.numerator, that.denominator, false);
+    }
+
+    /**
+     * Multiplies this accumulator by the value of another one, leaving the other accumulator unchanged
+     *
+     * @return this accumulator
+     * @throws IllegalArgumentException if that is null
+     */
+    public RationalAccumulator mul(RationalAccumulator that) throws IllegalArgumentException {
+        if (that == null) throw new IllegalArgumentException();
+        if (that.bigNumerator != null) return productBig(that.bigNumerator, that.bigDenominator);
+        return product(that.numerator, that.denominator);
+    }
+
+    /**
+     * @return the sign of the accumulated value: -1, 0 or 1
+     */
+    public int signum() {
+        if (this.bigNumerator != null) return this.bigNumerator.signum() * this.bigDenominator.signum();
+        return Long.signum(this.numerator) * Long.signum(this.denominator);
+    }
+
+    /**
+     * @return the accumulated value, in lowest terms with a positive denominator: a SimplifiedRational if it fits in
+     * `int`s, otherwise a LongRational or a BigRational
+     */
+    public IRational toRational() {
+        if (this.bigNumerator != null) {
+            return RationalArithmetic.toRational(RESULT_TYPE, this.bigNumerator, this.bigDenominator);
+        }
+        if (this.denominator < 0) {
+            // the BigInteger conversion moves the sign to the numerator, which negating longs could overflow
+            return RationalArithmetic.toRational(RESULT_TYPE, BigInteger.valueOf(this.numerator), BigInteger.valueOf(this.denominator));
+        }
+        return RationalArithmetic.toRational(RESULT_TYPE, this.numerator, this.denominator);
+    }
+
+    /**
+     * @return a string representation of the accumulated value, see `toRational()`
+     */
+    @Override
+    public String toString() {
+        return toRational().toString();
+    }
+
+    private RationalAccumulator sum(IRational that, boolean subtract) throws IllegalArgumentException {
+        if (that == null) throw new IllegalArgumentException();
+        if (this.bigNumerator != null || RationalArithmetic.isWide(that)) {
+            return sumBig(that.getBigNumerator(), that.getBigDenominator(), subtract);
+        }
+        return sum(that.getLongNumerator(), that.getLongDenominator(), subtract);
+    }
+
+    /**
+     * `(n1 / d1) +/- (n2 / d2) = (n1 * d2 +/- n2 * d1) / (d1 * d2)`, first as is, then with both operands reduced,
+     * and then with `BigInteger` values
+     */
+    private RationalAccumulator sum(long n, long d, boolean subtract) throws IllegalArgumentException {
+        if (d == 0) throw new IllegalArgumentException();
+        if (this.bigNumerator != null) return sumBig(BigInteger.valueOf(n), BigInteger.valueOf(d), subtract);
+        try {
+            long a = Math.multiplyExact(this.numerator, d);
+            long b = Math.multiplyExact(n, this.denominator);
+            long sum = subtract ? Math.subtractExact(a, b) : Math.addExact(a, b);
+            this.denominator = Math.multiplyExact(this.denominator, d);
+            this.numerator = sum;
+            return this;
+        } catch (ArithmeticException e) {
+            // reduce and try again below
+        }
+        reduce();
+        long g = RationalArithmetic.gcd(n, d);
+        n /= g;
+        d /= g;
+        // only the part of d that this denominator lacks is needed: (n1 * (d2 / g) +/- n2 * (d1 / g)) / (d1 * (d2 / g))
+        g = RationalArithmetic.gcd(this.denominator, d);
+        try {
+            long a = Math.multiplyExact(this.numerator, d / g);
+            long b = Math.multiplyExact(n, this.denominator / g);
+            long sum = subtract ? Math.subtractExact(a, b) : Math.addExact(a, b);
+            this.denominator = Math.multiplyExact(this.denominator, d / g);
+            this.numerator = sum;
+            return this;
+        } catch (ArithmeticException e) {
+            return sumBig(BigInteger.valueOf(n), BigInteger.valueOf(d), subtract);
+        }
+    }
+
+    private RationalAccumulator sumBig(BigInteger n, BigInteger d, boolean subtract) {
+        BigInteger a = bigNumerator().multiply(d);
+        BigInteger b = n.multiply(bigDenominator());
+        setBig(subtract ? a.subtract(b) : a.add(b), bigDenominator().multiply(d));
+        return this;
+    }
+
+    /**
+     * `(n1 / d1) * (n2 / d2)`, first as is, then with the operands reduced and cross-cancelled, and then with
+     * `BigInteger` values
+     */
+    private RationalAccumulator product(long n, long d) {
+        if (this.bigNumerator != null) return productBig(BigInteger.valueOf(n), BigInteger.valueOf(d));
+        try {
+            long product = Math.multiplyExact(this.numerator, n);
+            this.denominator = Math.multiplyExact(this.denominator, d);
+            this.numerator = product;
+            return this;
+        } catch (ArithmeticException e) {
+            // reduce and try again below
+        }
+        reduce();
+        long g1 = RationalArithmetic.gcd(this.numerator, d);
+        long g2 = RationalArithmetic.gcd(n, this.denominator);
+        try {
+            long product = Math.multiplyExact(this.numerator / g1, n / g2);
+            this.denominator = Math.multiplyExact(this.denominator / g2, d / g1);
+            this.numerator = product;
+            return this;
+        } catch (ArithmeticException e) {
+            return productBig(BigInteger.valueOf(n), BigInteger.valueOf(d));
+        }
+    }
+
+    private RationalAccumulator productBig(BigInteger n, BigInteger d) {
+        setBig(bigNumerator().multiply(n), bigDenominator().multiply(d));
+        return this;
+    }
+
+    /**
+     * Reduces the `long` value to lowest terms, with a positive denominator when that can be represented
+     */
+    private void reduce() {
+        if (this.numerator == 0) {
+            this.denominator = 1;
+            return;
+        }
+        long gcd = RationalArithmetic.gcd(this.numerator, this.denominator);
+        this.numerator /= gcd;
+        this.denominator /= gcd;
+        if (this.denominator < 0 && this.denominator != Long.MIN_VALUE && this.numerator != Long.MIN_VALUE) {
+            this.numerator = -this.numerator;
+            this.denominator = -this.denominator;
+        }
+    }
+
+    /**
+     * Stores a `BigInteger` value in lowest terms, switching back to `long` values if it fits in them
+     */
+    private void setBig(BigInteger n, BigInteger d) {
+        BigInteger gcd = n.gcd(d);
+        if (n.signum() == 0) {
+            d = BigInteger.ONE;
+        } else if (!gcd.equals(BigInteger.ONE)) {
+            n = n.divide(gcd);
+            d = d.divide(gcd);
+        }
+        if (d.signum() < 0) {
+            n = n.negate();
+            d = d.negate();
+        }
+        if (n.bitLength() < Long.SIZE && d.bitLength() < Long.SIZE) {
+            set(n.longValue(), d.longValue());
+        } else {
+            this.bigNumerator = n;
+            this.bigDenominator = d;
+        }
+    }
+
+    private BigInteger bigNumerator() {
+        return this.bigNumerator != null ? this.bigNumerator : BigInteger.valueOf(this.numerator);
+    }
+
+    private BigInteger bigDenominator() {
+        return this.bigDenominator != null ? this.bigDenominator : BigInteger.valueOf(this.denominator);
+    }
+}
@@ -0,0 +1,353 @@
+package com.cooksys.ftd.assignments.objects;
+
+import java.math.BigInteger;
+
+/**
+ * Exact arithmetic shared by the implementations of IRational.
+ * <p>
+ * Every operation is first attempted on `long` values, with `Math.multiplyExact`, `Math.addExact` and
+ * `Math.subtractExact` detecting overflow. For `int` operands the products always fit in a `long`, so that path
+ * never overflows and only allocates the result. Results that still fit in `int`s are built with the `construct`
+ * method of the left operand, which preserves its type; larger results are promoted to `LongRational`, and
+ * operations that overflow a `long` are redone with `BigInteger` values and promoted to `BigRational`.
+ */
+final class RationalArithmetic {
+
+    private RationalArithmetic() {
+    }
+
+    /**
+     * Determines the greatest common divisor of two `long` values of any sign, with the binary (Stein) algorithm,
+     * which only needs shifts and subtractions.
+     *
+     * @return the (non-negative) greatest common divisor of `a` and `b`, or `Long.MIN_VALUE` if that divisor
+     * is `2^63`, which still divides both values exactly
+     */
+    static long gcd(long a, long b) {
+        // Math.abs leaves Long.MIN_VALUE alone, which is exactly 2^63 when read as an unsigned value
+        a = Math.abs(a);
+        b = Math.abs(b);
+        if (a == 0) return b;
+        if (b == 0) return a;
+        int shift = Long.numberOfTrailingZeros(a | b);
+        a >>>= Long.numberOfTrailingZeros(a);
+        do {
+            // both values are odd (and so below 2^63) from here on
+            b >>>= Long.numberOfTrailingZeros(b);
+            if (a > b) {
+                long c = a;
+                a = b;
+                b = c;
+            }
+            b -= a;
+        } while (b != 0);
+        return a << shift;
+    }
+
+    /**
+     * `(n1 / d1) + (n2 / d2)`, or `(n1 / d1) - (n2 / d2)` if `subtract` is true
+     *
+     * @throws IllegalArgumentException if that is null
+     */
+    static IRational add(IRational self, IRational that, boolean subtract) throws IllegalArgumentException {
+        if (that == null) throw new IllegalArgumentException();
+        if (!isWide(self) && !isWide(that)) {
+            long n1 = self.getLongNumerator();
+            long d1 = self.getLongDenominator();
+            long n2 = that.getLongNumerator();
+            long d2 = that.getLongDenominator();
+            try {
+                long a = Math.multiplyExact(n1, d2);
+                long b = Math.multiplyExact(n2, d1);
+                return toRational(self,
+                        subtract ? Math.subtractExact(a, b) : Math.addExact(a, b),
+                        Math.multiplyExact(d1, d2));
+            } catch (ArithmeticException e) {
+                // fall through to BigInteger arithmetic
+            }
+        }
+        BigInteger d1 = self.getBigDenominator();
+        BigInteger d2 = that.getBigDenominator();
+        BigInteger a = self.getBigNumerator().multiply(d2);
+        BigInteger b = that.getBigNumerator().multiply(d1);
+        return toRational(self, subtract ? a.subtract(b) : a.add(b), d1.multiply(d2));
+    }
+
+    /**
+     * `(n1 / d1) * (n2 / d2)`
+     * <p>
+     * The operands are cross-cancelled first (`n1` against `d2`, and `n2` against `d1`), which keeps the products
+     * as small as possible and the result in lowest terms whenever the operands are.
+     *
+     * @throws IllegalArgumentException if that is null
+     */
+    static IRational mul(IRational self, IRational that) throws IllegalArgumentException {
+        if (that == null) throw new IllegalArgumentException();
+        if (!isWide(self) && !isWide(that)) {
+            try {
+                return product(self, self.getLongNumerator(), self.getLongDenominator(),
+                        that.getLongNumerator(), that.getLongDenominator());
+            } catch (ArithmeticException e) {
+                // fall through to BigInteger arithmetic
+            }
+        }
+        return product(self, self.getBigNumerator(), self.getBigDenominator(),
+                that.getBigNumerator(), that.getBigDenominator());
+    }
+
+    /**
+     * `(n1 / d1) / (n2 / d2)`, which is the product of `n1 / d1` and `d2 / n2`, see `mul`
+     *
+     * @throws IllegalArgumentException if that is null or if the numerator of that is 0
+     */
+    static IRational div(IRational self, IRational that) throws IllegalArgumentException {
+        if (that == null || isZero(that)) throw new IllegalArgumentException();
+        if (!isWide(self) && !isWide(that)) {
+            try {
+                return product(self, self.getLongNumerator(), self.getLongDenominator(),
+                        that.getLongDenominator(), that.getLongNumerator());
+            } catch (ArithmeticException e) {
+                // fall through to BigInteger arithmetic
+            }
+        }
+        return product(self, self.getBigNumerator(), self.getBigDenominator(),
+                that.getBigDenominator(), that.getBigNumerator());
+    }
+
+    /**
+     * `(n1 / d1) * (n2 / d2)`, cross-cancelled before multiplying
+     *
+     * @throws ArithmeticException if a product overflows a `long`
+     */
+    private static IRational product(IRational type, long n1, long d1, long n2, long d2) throws ArithmeticException {
+        long g1 = gcd(n1, d2);
+        long g2 = gcd(n2, d1);
+        return toRational(type,
+                Math.multiplyExact(n1 / g1, n2 / g2),
+                Math.multiplyExact(d1 / g2, d2 / g1));
+    }
+
+    private static IRational product(IRational type, BigInteger n1, BigInteger d1, BigInteger n2, BigInteger d2) {
+        BigInteger g1 = n1.gcd(d2);
+        BigInteger g2 = n2.gcd(d1);
+        return toRational(type,
+                n1.divide(g1).multiply(n2.divide(g2)),
+                d1.divide(g2).multiply(d2.divide(g1)));
+    }
+
+    /**
+     * Compares the values of two rational numbers, see `IRational.compareTo`
+     *
+     * @throws IllegalArgumentException if either value is null
+     */
+    static int compare(IRational a, IRational b) throws IllegalArgumentException {
+        if (a == null || b == null) throw new IllegalArgumentException();
+        // n1 / d1 < n2 / d2 iff n1 * d2 < n2 * d1, with the comparison flipped once per negative denominator
+        if (!isWide(a) && !isWide(b)) {
+            long n1 = a.getLongNumerator(), d1 = a.getLongDenominator();
+            long n2 = b.getLongNumerator(), d2 = b.getLongDenominator();
+            try {
+                int c = Long.compare(Math.multiplyExact(n1, d2), Math.multiplyExact(n2, d1));
+                return Long.signum(d1) * Long.signum(d2) * c;
+            } catch (ArithmeticException e) {
+                // fall through to BigInteger arithmetic
+            }
+        }
+        BigInteger d1 = a.getBigDenominator(), d2 = b.getBigDenominator();
+        int c = a.getBigNumerator().multiply(d2).compareTo(b.getBigNumerator().multiply(d1));
+        return d1.signum() * d2.signum() * c;
+    }
+
+    /**
+     * @return true if the numerator or denominator of the given value may not fit in a `long`, so that it has to be
+     * read with `getBigNumerator()` and `getBigDenominator()`: a BigRational, or a LazyRational whose reduced form is
+     * one
+     */
+    static boolean isWide(IRational value) {
+        return value instanceof BigRational || value instanceof LazyRational && ((LazyRational) value).isWide();
+    }
+
+    private static boolean isZero(IRational value) {
+        return isWide(value) ? value.getBigNumerator().signum() == 0 : value.getLongNumerator() == 0;
+    }
+
+    /**
+     * Builds a result for an operation whose left operand is `type`. The result is built with `type.construct` if
+     * it fits in `int`s (either as given or once reduced), and promoted to a `LongRational` (or, if the sign cannot
+     * be normalized in a `long`, a `BigRational`) otherwise.
+     *
+     * @throws IllegalArgumentException if the given denominator is 0
+     */
+    static IRational toRational(IRational type, long numerator, long denominator) throws IllegalArgumentException {
+        if (numerator == (int) numerator && denominator == (int) denominator) {
+            return type.construct((int) numerator, (int) denominator);
+        }
+        if (denominator == 0) throw new IllegalArgumentException();
+        long n = numerator;
+        long d = denominator;
+        if (n == 0) {
+            d = 1;
+        } else {
+            long gcd = gcd(n, d);
+            n /= gcd;
+            d /= gcd;
+        }
+        if (n == (int) n && d == (int) d) {
+            return type.construct((int) n, (int) d);
+        }
+        try {
+            return new LongRational(n, d);
+        } catch (ArithmeticException e) {
+            return toRational(type, BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+        }
+    }
+
+    /**
+     * `BigInteger` counterpart of `toRational(type, long, long)`, which demotes the result to `long` or `int`
+     * values whenever it fits in them.
+     *
+     * @throws IllegalArgumentException if the given denominator is 0
+     */
+    static IRational toRational(IRational type, BigInteger numerator, BigInteger denominator) throws IllegalArgumentException {
+        if (denominator.signum() == 0) throw new IllegalArgumentException();
+        BigInteger gcd = numerator.gcd(denominator);
+        if (numerator.signum() == 0) {
+            denominator = BigInteger.ONE;
+        } else if (!gcd.equals(BigInteger.ONE)) {
+            numerator = numerator.divide(gcd);
+            denominator = denominator.divide(gcd);
+        }
+        if (denominator.signum() < 0) {
+            numerator = numerator.negate();
+            denominator = denominator.negate();
+        }
+        if (numerator.bitLength() < Long.SIZE && denominator.bitLength() < Long.SIZE) {
+            return toRational(type, numerator.longValue(), denominator.longValue());
+        }
+        return new BigRational(numerator, denominator);
+    }
+
+    /**
+     * Finds the fraction closest to `value` among those whose denominator is at most `maxDenominator`, using the
+     * convergents and semiconvergents of the continued fraction of `value`. `value` is taken exactly as the binary
+     * fraction `m / 2^k` a `double` represents, except that values below `2^-9` in magnitude are first rounded to a
+     * multiple of `2^-62`, so that the whole computation fits in `long`s.
+     *
+     * @return the fraction, in lowest terms with a positive denominator, packed as `numerator << 32 | denominator`
+     * @throws IllegalArgumentException if value is not finite, if maxDenominator is less than 1, or if the
+     *                                  numerator of the fraction does not fit in an `int`
+     */
+    static long bestApproximation(double value, int maxDenominator) throws IllegalArgumentException {
+        if (Double.isNaN(value) || Double.isInfinite(value) || maxDenominator < 1) throw new IllegalArgumentException();
+        double magnitude = Math.abs(value);
+        if (magnitude >= 0x1p31 + 1) throw new IllegalArgumentException();
+        long packed = best(magnitude, maxDenominator);
+        long numerator = packed >>> 32;
+        long denominator = packed & 0xffffffffL;
+        if (value < 0) numerator = -numerator;
+        if (numerator != (int) numerator) throw new IllegalArgumentException();
+        return numerator << 32 | denominator;
+    }
+
+    /**
+     * `bestApproximation` for a non-negative value below `2^31 + 1`, with the numerator packed as an unsigned value
+     *
+     * @throws IllegalArgumentException if the numerator does not fit in 32 bits
+     */
+    private static long best(double x, long limit) {
+        if (x == 0) return 1;
+        // x = p / q exactly, with q a power of two
+        long bits = Double.doubleToRawLongBits(x);
+        int exponent = (int) (bits >>> 52) & 0x7ff;
+        long mantissa = bits & 0xfffffffffffffL;
+        if (exponent == 0) exponent++;
+        else mantissa |= 1L << 52;
+        // positive, as value is below 2^52
+        int k = 1075 - exponent;
+        int shift = Math.min(Long.numberOfTrailingZeros(mantissa), k);
+        long p = mantissa >> shift;
+        k -= shift;
+        if (k > 62) {
+            // round to nearest multiple of 2^-62
+            p = k - 62 >= 64 ? 0 : (p + (1L << (k - 63))) >> (k - 62);
+            k = 62;
+            if (p == 0) return 1;
+        }
+        long q = 1L << k;
+        if (q <= limit) {
+            shift = Math.min(Long.numberOfTrailingZeros(p), k);
+            return pack(p >> shift, q >> shift);
+        }
+
+        // convergents p1 / q1 with their predecessors p0 / q0, while the denominator stays within the limit
+        long p0 = 0, q0 = 1, p1 = 1, q1 = 0;
+        long n = p, d = q;
+        while (true) {
+            long a = n / d;
+            if (q1 != 0 && a > (limit - q0) / q1) break;
+            long p2 = p0 + a * p1;
+            long q2 = q0 + a * q1;
+            p0 = p1;
+            q0 = q1;
+            p1 = p2;
+            q1 = q2;
+            long r = n - a * d;
+            n = d;
+            d = r;
+            if (d == 0) return pack(p1, q1);
+        }
+        // the best semiconvergent below the limit, on the other side of x from p1 / q1
+        long t = (limit - q0) / q1;
+        long ps = p0 + t * p1;
+        long qs = q0 + t * q1;
+        // |p1 / q1 - x| = e1 / (q1 * q) and |ps / qs - x| = es / (qs * q); both numerators fit in a long, so the
+        // wrapped products give them exactly
+        long e1 = Math.abs(p1 * q - p * q1);
+        long es = Math.abs(ps * q - p * qs);
+        return compareQuotients(e1, q1, es, qs) <= 0 ? pack(p1, q1) : pack(ps, qs);
+    }
+
+    private static long pack(long numerator, long denominator) throws IllegalArgumentException {
+        if (numerator >>> 32 != 0) throw new IllegalArgumentException();
+        return numerator << 32 | denominator;
+    }
+
+    /**
+     * Compares `a / b` to `c / d` for non-negative `a` and `c` and positive `b` and `d` below `2^31`
+     */
+    private static int compareQuotients(long a, long b, long c, long d) {
+        int result = Long.compare(a / b, c / d);
+        return result != 0 ? result : Long.compare(a % b * d, c % d * b);
+    }
+
+    /**
+     * Converts `numerator / denominator` to the nearest `double`, rounding ties to even
+     */
+    static double toDouble(BigInteger numerator, BigInteger denominator) {
+        if (denominator.signum() < 0) {
+            numerator = numerator.negate();
+            denominator = denominator.negate();
+        }
+        if (numerator.signum() == 0) return 0.0;
+        BigInteger magnitude = numerator.abs();
+        // scale the quotient to 62 or 63 bits, and fold any remainder into its lowest bit, far below the 53 bits a
+        // double keeps, so the conversion of the quotient to a double rounds exactly like the exact value would
+        int shift = denominator.bitLength() - magnitude.bitLength() + 62;
+        // the quotient is at least 2^61, so the result is a normal double unless the shift is too large, in which
+        // case the quotient is taken at the precision of subnormal doubles and rounded here instead
+        boolean subnormal = shift > 1083;
+        if (subnormal) shift = 1074;
+        BigInteger[] qr = shift >= 0
+                ? magnitude.shiftLeft(shift).divideAndRemainder(denominator)
+                : magnitude.divideAndRemainder(denominator.shiftLeft(-shift));
+        long quotient = qr[0].longValue();
+        if (subnormal) {
+            int half = qr[1].shiftLeft(1).compareTo(denominator);
+            if (half > 0 || half == 0 && (quotient & 1) != 0) quotient++;
+        } else if (qr[1].signum() != 0) {
+            quotient |= 1;
+        }
+        double result = Math.scalb((double) quotient, -shift);
+        return numerator.signum() < 0 ? -result : result;
+    }
+}
@@ -0,0 +1,421 @@
+package com.cooksys.ftd.assignments.objects;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * A fixed-length array of rational values stored column-wise, as parallel `long[]` numerators and denominators,
+ * instead of as an array of `IRational` objects.
+ * <p>
+ * The bulk operations (`add`, `sub`, `mul`, `div`, element-wise or with a scalar) update this array in place.
+ * While every numerator and denominator of both operands lies strictly within the `int` range, no product or sum can
+ * overflow a `long`, and the operations run as plain branch-free loops that the JIT can unroll and vectorise. Other
+ * values go through checked arithmetic, reducing an element when it would otherwise overflow.
+ * <p>
+ * Like `Rational`, elements are not simplified by the bulk operations; `normalize()` reduces every element to lowest
+ * terms with a positive denominator, which usually brings the array back within the fast range. If an operation
+ * throws an `ArithmeticException`, the elements before the one that overflowed have already been updated, the one
+ * that overflowed keeps its value, and the array remains usable.
+ */
+public final class RationalArray {
+    private static final long NARROW_MAX = Integer.MAX_VALUE;
+
+    private final long[] numerators;
+    private final long[] denominators;
+
+    // true if every numerator and denominator is within [-NARROW_MAX, NARROW_MAX]; kept conservative
+    private boolean narrow;
+
+    /**
+     * Creates an array of the given length, filled with `0/1`
+     *
+     * @throws IllegalArgumentException if length is negative
+     */
+    public RationalArray(int length) throws IllegalArgumentException {
+        if (length < 0) throw new IllegalArgumentException();
+        this.numerators = new long[length];
+        this.denominators = new long[length];
+        Arrays.fill(this.denominators, 1);
+        this.narrow = true;
+    }
+
+    /**
+     * Creates an array holding the given rational values
+     *
+     * @throws IllegalArgumentException if values or one of its elements is null
+     * @throws ArithmeticException      if one of the values does not fit in `long`s
+     */
+    public static RationalArray of(IRational... values) throws IllegalArgumentException, ArithmeticException {
+        if (values == null) throw new IllegalArgumentException();
+        RationalArray array = new RationalArray(values.length);
+        for (int i = 0; i < values.length; i++) {
+            array.set(i, values[i]);
+        }
+        return array;
+    }
+
+    /**
+     * @return the number of elements of this array
+     */
+    public int length() {
+        return this.numerators.length;
+    }
+
+    /**
+     * @return the numerator of the element at the given index
+     */
+    public long getNumerator(int index) {
+        return this.numerators[index];
+    }
+
+    /**
+     * @return the denominator of the element at the given index
+     */
+    public long getDenominator(int index) {
+        return this.denominators[index];
+    }
+
+    /**
+     * @return the element at the given index, in lowest terms: a SimplifiedRational if it fits in `int`s,
+     * otherwise a LongRational or a BigRational
+     */
+    public IRational get(int index) {
+        return RationalArithmetic.toRational(SimplifiedRational.valueOf(0, 1), this.numerators[index], this.denominators[index]);
+    }
+
+    /**
+     * Replaces the element at the given index with `numerator / denominator`
+     *
+     * @throws IllegalArgumentException if the given denominator is 0
+     */
+    public void set(int index, long numerator, long denominator) throws IllegalArgumentException {
+        if (denominator == 0) throw new IllegalArgumentException();
+        this.numerators[index] = numerator;
+        this.denominators[index] = denominator;
+        this.narrow &= isNarrow(numerator) && isNarrow(denominator);
+    }
+
+    /**
+     * Replaces the element at the given index with the given rational value
+     *
+     * @throws IllegalArgumentException if value is null
+     * @throws ArithmeticException      if value does not fit in `long`s
+     */
+    public void set(int index, IRational value) throws IllegalArgumentException, ArithmeticException {
+        if (value == null) throw new IllegalArgumentException();
+        set(index, value.getLongNumerator(), value.getLongDenominator());
+    }
+
+    /**
+     * `this[i] += that[i]` for every index `i`
+     *
+     * @return this array
+     * @throws IllegalArgumentException if that is null or has a different length
+     * @throws ArithmeticException      if a reduced result does not fit in `long`s
+     */
+    public RationalArray add(RationalArray that) throws IllegalArgumentException, ArithmeticException {
+        return sum(that, false);
+    }
+
+    /**
+     * `this[i] -= that[i]` for every index `i`
+     *
+     * @return this array
+     * @throws IllegalArgumentException if that is null or has a different length
+     * @throws ArithmeticException      if a reduced result does not fit in `long`s
+     */
+    public RationalArray sub(RationalArray that) throws IllegalArgumentException, ArithmeticException {
+        return sum(that, true);
+    }
+
+    /**
+     * `this[i] *= that[i]` for every index `i`
+     *
+     * @return this array
+     * @throws IllegalArgumentException if that is null or has a different length
+     * @throws ArithmeticException      if a reduced result does not fit in `long`s
+     */
+    public RationalArray mul(RationalArray that) throws IllegalArgumentException, ArithmeticException {
+        checkLength(that);
+        return product(that.numerators, that.denominators, that.narrow);
+    }
+
+    /**
+     * `this[i] /= that[i]` for every index `i`
+     *
+     * @return this array
+     * @throws IllegalArgumentException if that is null, has a different length or has an element equal to 0 (in
+     *                                  which case this array is left unchanged)
+     * @throws ArithmeticException      if a reduced result does not fit in `long`s
+     */
+    public RationalArray div(RationalArray that) throws IllegalArgumentException, ArithmeticException {
+        checkLength(that);
+        for (long n : that.numerators) {
+            if (n == 0) throw new IllegalArgumentException();
+        }
+        return product(that.denominators, that.numerators, that.narrow);
+    }
+
+    /**
+     * `this[i] += that` for every index `i`
+     *
+     * @return this array
+     * @throws IllegalArgumentException if that is null
+     * @throws ArithmeticException      if that or a reduced result does not fit in `long`s
+     */
+    public RationalArray add(IRational that) throws IllegalArgumentException, ArithmeticException {
+        if (that == null) throw new IllegalArgumentException();
+        return scalarSum(that.getLongNumerator(), that.getLongDenominator(), false);
+    }
+
+    /**
+     * `this[i] -= that` for every index `i`
+     *
+     * @return this array
+     * @throws IllegalArgumentException if that is null
+     * @throws ArithmeticException      if that or a reduced result does not fit in `long`s
+     */
+    public RationalArray sub(IRational that) throws IllegalArgumentException, ArithmeticException {
+        if (that == null) throw new IllegalArgumentException();
+        return scalarSum(that.getLongNumerator(), that.getLongDenominator(), true);
+    }
+
+    /**
+     * `this[i] *= that` for every index `i`
+     *
+     * @return this array
+     * @throws IllegalArgumentException if that is null
+     * @throws ArithmeticException      if that or a reduced result does not fit in `long`s
+     */
+    public RationalArray mul(IRational that) throws IllegalArgumentException, ArithmeticException {
+        if (that == null) throw new IllegalArgumentException();
+        return scalarProduct(that.getLongNumerator(), that.getLongDenominator());
+    }
+
+    /**
+     * `this[i] /= that` for every index `i`
+     *
+     * @return this array
+     * @throws IllegalArgumentException if that is null or if the numerator of that is 0
+     * @throws ArithmeticException      if that or a reduced result does not fit in `long`s
+     */
+    public RationalArray div(IRational that) throws IllegalArgumentException, ArithmeticException {
+        if (that == null) throw new IllegalArgumentException();
+        long n = that.getLongNumerator();
+        if (n == 0) throw new IllegalArgumentException();
+        return scalarProduct(that.getLongDenominator(), n);
+    }
+
+    /**
+     * Reduces every element to lowest terms, with a positive denominator where that fits in a `long`
+     *
+     * @return this array
+     */
+    public RationalArray normalize() {
+        boolean narrow = true;
+        for (int i = 0; i < this.numerators.length; i++) {
+            long n = this.numerators[i];
+            long d = this.denominators[i];
+            if (n == 0) {
+                d = 1;
+            } else {
+                long gcd = RationalArithmetic.gcd(n, d);
+                n /= gcd;
+                d /= gcd;
+                if (d < 0 && d != Long.MIN_VALUE && n != Long.MIN_VALUE) {
+                    n = -n;
+                    d = -d;
+                }
+            }
+            this.numerators[i] = n;
+            this.denominators[i] = d;
+            narrow &= isNarrow(n) && isNarrow(d);
+        }
+        this.narrow = narrow;
+        return this;
+    }
+
+    /**
+     * @return the exact sum of every element, see `RationalAccumulator.toRational()`
+     */
+    public IRational sum() {
+        RationalAccumulator sum = new RationalAccumulator();
+        for (int i = 0; i < this.numerators.length; i++) {
+            sum.add(this.numerators[i], this.denominators[i]);
+        }
+        return sum.toRational();
+    }
+
+    /**
+     * @return the elements of this array as Rational values, reduced only when they would not fit in `int`s
+     * @throws ArithmeticException if an element does not fit in `int`s once reduced
+     */
+    public Rational[] toRationals() throws ArithmeticException {
+        Rational[] result = new Rational[this.numerators.length];
+        for (int i = 0; i < result.length; i++) {
+            long n = this.numerators[i];
+            long d = this.denominators[i];
+            if (n != (int) n || d != (int) d) {
+                IRational reduced = get(i);
+                result[i] = new Rational(reduced.getNumerator(), reduced.getDenominator());
+            } else {
+                result[i] = new Rational((int) n, (int) d);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the elements of this array as SimplifiedRational values
+     * @throws ArithmeticException if an element does not fit in `int`s once reduced
+     */
+    public SimplifiedRational[] toSimplifiedRationals() throws ArithmeticException {
+        SimplifiedRational[] result = new SimplifiedRational[this.numerators.length];
+        for (int i = 0; i < result.length; i++) {
+            IRational reduced = get(i);
+            result[i] = SimplifiedRational.valueOf(reduced.getNumerator(), reduced.getDenominator());
+        }
+        return result;
+    }
+
+    private RationalArray sum(RationalArray that, boolean subtract) throws IllegalArgumentException, ArithmeticException {
+        checkLength(that);
+        long[] n1 = this.numerators, d1 = this.denominators, n2 = that.numerators, d2 = that.denominators;
+        boolean fast = this.narrow && that.narrow;
+        // cleared first, so that an overflow partway through leaves the array on the checked path
+        this.narrow = false;
+        if (fast) {
+            // |n| and |d| are below 2^31, so each product is below 2^62 and the sum cannot overflow
+            if (subtract) {
+                for (int i = 0; i < n1.length; i++) {
+                    n1[i] = n1[i] * d2[i] - n2[i] * d1[i];
+                    d1[i] = d1[i] * d2[i];
+                }
+            } else {
+                for (int i = 0; i < n1.length; i++) {
+                    n1[i] = n1[i] * d2[i] + n2[i] * d1[i];
+                    d1[i] = d1[i] * d2[i];
+                }
+            }
+        } else {
+            for (int i = 0; i < n1.length; i++) {
+                sumAt(i, n2[i], d2[i], subtract);
+            }
+        }
+        return this;
+    }
+
+    private RationalArray scalarSum(long n2, long d2, boolean subtract) throws ArithmeticException {
+        long[] n1 = this.numerators, d1 = this.denominators;
+        boolean fast = this.narrow && isNarrow(n2) && isNarrow(d2);
+        this.narrow = false;
+        if (fast) {
+            if (subtract) n2 = -n2;
+            for (int i = 0; i < n1.length; i++) {
+                n1[i] = n1[i] * d2 + n2 * d1[i];
+                d1[i] = d1[i] * d2;
+            }
+        } else {
+            for (int i = 0; i < n1.length; i++) {
+                sumAt(i, n2, d2, subtract);
+            }
+        }
+        return this;
+    }
+
+    private RationalArray product(long[] n2, long[] d2, boolean narrow) throws ArithmeticException {
+        long[] n1 = this.numerators, d1 = this.denominators;
+        boolean fast = this.narrow && narrow;
+        this.narrow = false;
+        if (fast) {
+            for (int i = 0; i < n1.length; i++) {
+                // read both columns first: for `x.div(x)`, n2 and d2 are this array's own columns, swapped
+                long n = n1[i] * n2[i];
+                long d = d1[i] * d2[i];
+                n1[i] = n;
+                d1[i] = d;
+            }
+        } else {
+            for (int i = 0; i < n1.length; i++) {
+                productAt(i, n2[i], d2[i]);
+            }
+        }
+        return this;
+    }
+
+    private RationalArray scalarProduct(long n2, long d2) throws ArithmeticException {
+        long[] n1 = this.numerators, d1 = this.denominators;
+        boolean fast = this.narrow && isNarrow(n2) && isNarrow(d2);
+        this.narrow = false;
+        if (fast) {
+            for (int i = 0; i < n1.length; i++) {
+                n1[i] = n1[i] * n2;
+                d1[i] = d1[i] * d2;
+            }
+        } else {
+            for (int i = 0; i < n1.length; i++) {
+                productAt(i, n2, d2);
+            }
+        }
+        return this;
+    }
+
+    private void sumAt(int i, long n2, long d2, boolean subtract) throws ArithmeticException {
+        long n1 = this.numerators[i];
+        long d1 = this.denominators[i];
+        try {
+            long a = Math.multiplyExact(n1, d2);
+            long b = Math.multiplyExact(n2, d1);
+            this.numerators[i] = subtract ? Math.subtractExact(a, b) : Math.addExact(a, b);
+            this.denominators[i] = Math.multiplyExact(d1, d2);
+        } catch (ArithmeticException e) {
+            BigInteger a = BigInteger.valueOf(n1).multiply(BigInteger.valueOf(d2));
+            BigInteger b = BigInteger.valueOf(n2).multiply(BigInteger.valueOf(d1));
+            store(i, subtract ? a.subtract(b) : a.add(b), BigInteger.valueOf(d1).multiply(BigInteger.valueOf(d2)));
+        }
+    }
+
+    private void productAt(int i, long n2, long d2) throws ArithmeticException {
+        long n1 = this.numerators[i];
+        long d1 = this.denominators[i];
+        try {
+            long n = Math.multiplyExact(n1, n2);
+            this.denominators[i] = Math.multiplyExact(d1, d2);
+            this.numerators[i] = n;
+        } catch (ArithmeticException e) {
+            store(i, BigInteger.valueOf(n1).multiply(BigInteger.valueOf(n2)), BigInteger.valueOf(d1).multiply(BigInteger.valueOf(d2)));
+        }
+    }
+
+    /**
+     * Stores an element that overflowed, once reduced
+     *
+     * @throws ArithmeticException if it does not fit in `long`s once reduced
+     */
+    private void store(int i, BigInteger n, BigInteger d) throws ArithmeticException {
+        if (n.signum() == 0) {
+            d = BigInteger.ONE;
+        } else {
+            BigInteger gcd = n.gcd(d);
+            n = n.divide(gcd);
+            d = d.divide(gcd);
+        }
+        if (d.signum() < 0) {
+            n = n.negate();
+            d = d.negate();
+        }
+        // both are checked before either is stored, so that an element that does not fit keeps its old value
+        long numerator = n.longValueExact();
+        long denominator = d.longValueExact();
+        this.numerators[i] = numerator;
+        this.denominators[i] = denominator;
+    }
+
+    private void checkLength(RationalArray that) throws IllegalArgumentException {
+        if (that == null || that.numerators.length != this.numerators.length) throw new IllegalArgumentException();
+    }
+
+    private static boolean isNarrow(long value) {
+        return value >= -NARROW_MAX && value <= NARROW_MAX;
+    }
+}
@@ -0,0 +1,331 @@
+package com.cooksys.ftd.assignments.objects;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A compact binary encoding of rational values and arrays of rational values, for storage and transport.
+ * <p>
+ * A value is its numerator followed by its denominator, exactly as returned by `getLongNumerator()` and
+ * `getLongDenominator()` (so a Rational keeps its unsimplified form). Each one is zig-zag encoded, so that small
+ * negative values stay small, and written as a varint: 7 bits per byte, least significant group first, with the high
+ * bit of each byte set if more bytes follow. Values within `[-64, 63]` take one byte each, and no value takes more
+ * than ten. An array is its length, as an unsigned varint, followed by its values.
+ * <p>
+ * Writes to a `ByteBuffer` are all-or-nothing, like `RationalFormat.format`. Reads from a `ByteBuffer` leave its
+ * position unchanged if they fail. The bulk reads fill `long[]` arrays or a RationalArray directly, without creating
+ * an object per value.
+ */
+public final class RationalCodec {
+    // the type decoded values are built with when they fit in ints, see RationalArithmetic.toRational
+    private static final IRational RESULT_TYPE = SimplifiedRational.valueOf(0, 1);
+
+    // the longest encoding of a single value
+    private static final int MAX_VALUE_LENGTH = 20;
+
+    // the most values a stream read allocates room for before it has read them
+    private static final int STREAM_BLOCK_LENGTH = 4096;
+
+    private RationalCodec() {
+    }
+
+    /**
+     * @return the number of bytes `write` uses for the given value
+     * @throws IllegalArgumentException if value is null
+     * @throws ArithmeticException      if value does not fit in `long`s
+     */
+    public static int encodedLength(IRational value) throws IllegalArgumentException, ArithmeticException {
+        if (value == null) throw new IllegalArgumentException();
+        return varintLength(zigZag(value.getLongNumerator())) + varintLength(zigZag(value.getLongDenominator()));
+    }
+
+    /**
+     * @return the number of bytes `writeArray` uses for the given values
+     * @throws IllegalArgumentException if values is null
+     */
+    public static int encodedLength(RationalArray values) throws IllegalArgumentException {
+        if (values == null) throw new IllegalArgumentException();
+        int length = varintLength(values.length());
+        for (int i = 0; i < values.length(); i++) {
+            length += varintLength(zigZag(values.getNumerator(i))) + varintLength(zigZag(values.getDenominator(i)));
+        }
+        return length;
+    }
+
+    /**
+     * Writes a value at the position of the buffer
+     *
+     * @throws IllegalArgumentException if value or out is null
+     * @throws ArithmeticException      if value does not fit in `long`s
+     * @throws BufferOverflowException  if the value does not fit in the remaining bytes of the buffer, in which case
+     *                                  nothing is written
+     */
+    public static void write(IRational value, ByteBuffer out) throws IllegalArgumentException, ArithmeticException {
+        if (value == null || out == null) throw new IllegalArgumentException();
+        long n = zigZag(value.getLongNumerator());
+        long d = zigZag(value.getLongDenominator());
+        if (varintLength(n) + varintLength(d) > out.remaining()) throw new BufferOverflowException();
+        writeVarint(n, out);
+        writeVarint(d, out);
+    }
+
+    /**
+     * Writes a value to a stream
+     *
+     * @throws IllegalArgumentException if value or out is null
+     * @throws ArithmeticException      if value does not fit in `long`s
+     * @throws IOException              if the stream fails
+     */
+    public static void write(IRational value, DataOutput out) throws IllegalArgumentException, ArithmeticException, IOException {
+        if (value == null || out == null) throw new IllegalArgumentException();
+        byte[] scratch = new byte[MAX_VALUE_LENGTH];
+        int length = writeVarint(zigZag(value.getLongNumerator()), scratch, 0);
+        length = writeVarint(zigZag(value.getLongDenominator()), scratch, length);
+        out.write(scratch, 0, length);
+    }
+
+    /**
+     * Writes an array of values at the position of the buffer
+     *
+     * @throws IllegalArgumentException if values or out is null
+     * @throws BufferOverflowException  if the values do not fit in the remaining bytes of the buffer, in which case
+     *                                  nothing is written
+     */
+    public static void writeArray(RationalArray values, ByteBuffer out) throws IllegalArgumentException {
+        if (values == null || out == null) throw new IllegalArgumentException();
+        if (encodedLength(values) > out.remaining()) throw new BufferOverflowException();
+        writeVarint(values.length(), out);
+        for (int i = 0; i < values.length(); i++) {
+            writeVarint(zigZag(values.getNumerator(i)), out);
+            writeVarint(zigZag(values.getDenominator(i)), out);
+        }
+    }
+
+    /**
+     * Writes an array of values to a stream
+     *
+     * @throws IllegalArgumentException if values or out is null
+     * @throws IOException              if the stream fails
+     */
+    public static void writeArray(RationalArray values, DataOutput out) throws IllegalArgumentException, IOException {
+        if (values == null || out == null) throw new IllegalArgumentException();
+        // values are encoded into a reusable block of bytes, and the stream is written once per block
+        byte[] block = new byte[Math.min(8192, MAX_VALUE_LENGTH * (values.length() + 1))];
+        int length = writeVarint(values.length(), block, 0);
+        for (int i = 0; i < values.length(); i++) {
+            if (length > block.length - MAX_VALUE_LENGTH) {
+                out.write(block, 0, length);
+                length = 0;
+            }
+            length = writeVarint(zigZag(values.getNumerator(i)), block, length);
+            length = writeVarint(zigZag(values.getDenominator(i)), block, length);
+        }
+        out.write(block, 0, length);
+    }
+
+    /**
+     * Reads a value from the position of the buffer
+     *
+     * @return the value, in lowest terms: a SimplifiedRational if it fits in `int`s, otherwise a LongRational or a
+     * BigRational
+     * @throws IllegalArgumentException if in is null, or if the bytes are not a valid encoding or encode a zero
+     *                                  denominator
+     * @throws BufferUnderflowException if the buffer ends before the value does
+     */
+    public static IRational read(ByteBuffer in) throws IllegalArgumentException {
+        if (in == null) throw new IllegalArgumentException();
+        int start = in.position();
+        try {
+            long n = unZigZag(readVarint(in));
+            long d = unZigZag(readVarint(in));
+            if (d == 0) throw new IllegalArgumentException();
+            return RationalArithmetic.toRational(RESULT_TYPE, n, d);
+        } catch (RuntimeException e) {
+            in.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * Reads a value from a stream
+     *
+     * @return the value, in lowest terms, see `read(ByteBuffer)`
+     * @throws IllegalArgumentException if in is null, or if the bytes are not a valid encoding or encode a zero
+     *                                  denominator
+     * @throws IOException              if the stream fails or ends before the value does
+     */
+    public static IRational read(DataInput in) throws IllegalArgumentException, IOException {
+        if (in == null) throw new IllegalArgumentException();
+        long n = unZigZag(readVarint(in));
+        long d = unZigZag(readVarint(in));
+        if (d == 0) throw new IllegalArgumentException();
+        return RationalArithmetic.toRational(RESULT_TYPE, n, d);
+    }
+
+    /**
+     * Reads an array of values from the position of the buffer, as they were written
+     *
+     * @throws IllegalArgumentException if in is null, or if the bytes are not a valid encoding or encode a zero
+     *                                  denominator
+     * @throws BufferUnderflowException if the buffer ends before the array does
+     */
+    public static RationalArray readArray(ByteBuffer in) throws IllegalArgumentException {
+        if (in == null) throw new IllegalArgumentException();
+        int start = in.position();
+        try {
+            RationalArray values = new RationalArray(readLength(in, in.remaining()));
+            for (int i = 0; i < values.length(); i++) {
+                values.set(i, unZigZag(readVarint(in)), unZigZag(readVarint(in)));
+            }
+            return values;
+        } catch (RuntimeException e) {
+            in.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * Reads an array of values from a stream, as they were written
+     *
+     * @throws IllegalArgumentException if in is null, or if the bytes are not a valid encoding or encode a zero
+     *                                  denominator
+     * @throws IOException              if the stream fails or ends before the array does
+     */
+    public static RationalArray readArray(DataInput in) throws IllegalArgumentException, IOException {
+        if (in == null) throw new IllegalArgumentException();
+        long length = readVarint(in);
+        if (length < 0 || length > Integer.MAX_VALUE) throw new IllegalArgumentException();
+        // the stream's length is unknown, so the values are collected into arrays that grow as they arrive, and a
+        // corrupt length fails at the end of the stream rather than with a huge allocation
+        long[] numerators = new long[(int) Math.min(length, STREAM_BLOCK_LENGTH)];
+        long[] denominators = new long[numerators.length];
+        for (int i = 0; i < length; i++) {
+            if (i == numerators.length) {
+                int grown = (int) Math.min(length, 2L * i);
+                numerators = Arrays.copyOf(numerators, grown);
+                denominators = Arrays.copyOf(denominators, grown);
+            }
+            numerators[i] = unZigZag(readVarint(in));
+            denominators[i] = unZigZag(readVarint(in));
+        }
+        RationalArray values = new RationalArray((int) length);
+        for (int i = 0; i < length; i++) {
+            values.set(i, numerators[i], denominators[i]);
+        }
+        return values;
+    }
+
+    /**
+     * Reads an array of values from the position of the buffer into `numerators` and `denominators`, from `offset`
+     * on, keeping each value exactly as it was written
+     *
+     * @return the number of values read
+     * @throws IllegalArgumentException  if one of the arguments is null, or if the bytes are not a valid encoding
+     *                                   or encode a zero denominator
+     * @throws IndexOutOfBoundsException if offset is negative, or if the values do not fit in the arrays after it
+     * @throws BufferUnderflowException  if the buffer ends before the array does
+     */
+    public static int readArray(ByteBuffer in, long[] numerators, long[] denominators, int offset) throws IllegalArgumentException {
+        if (in == null || numerators == null || denominators == null) throw new IllegalArgumentException();
+        int start = in.position();
+        try {
+            int length = readLength(in, in.remaining());
+            if (offset < 0 || offset > numerators.length - length || offset > denominators.length - length) {
+                throw new IndexOutOfBoundsException();
+            }
+            for (int i = offset; i < offset + length; i++) {
+                long n = unZigZag(readVarint(in));
+                long d = unZigZag(readVarint(in));
+                if (d == 0) throw new IllegalArgumentException();
+                numerators[i] = n;
+                denominators[i] = d;
+            }
+            return length;
+        } catch (RuntimeException e) {
+            in.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the length of an array, which cannot exceed the number of values `available` bytes can hold
+     */
+    private static int readLength(ByteBuffer in, int available) throws IllegalArgumentException {
+        long length = readVarint(in);
+        if (length < 0 || length > available / 2) throw new IllegalArgumentException();
+        return (int) length;
+    }
+
+    private static long zigZag(long value) {
+        return value << 1 ^ value >> 63;
+    }
+
+    private static long unZigZag(long value) {
+        return value >>> 1 ^ -(value & 1);
+    }
+
+    /**
+     * @return the number of bytes of the varint encoding of `value`, taken as unsigned
+     */
+    private static int varintLength(long value) {
+        // 1 byte per started group of 7 bits, and 1 byte for 0
+        return (63 - Long.numberOfLeadingZeros(value | 1)) / 7 + 1;
+    }
+
+    private static void writeVarint(long value, ByteBuffer out) {
+        while ((value & ~0x7fL) != 0) {
+            out.put((byte) (value | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    /**
+     * @return the index following the varint written at `index`
+     */
+    private static int writeVarint(long value, byte[] out, int index) {
+        while ((value & ~0x7fL) != 0) {
+            out[index++] = (byte) (value | 0x80);
+            value >>>= 7;
+        }
+        out[index++] = (byte) value;
+        return index;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the varint is longer than ten bytes or does not fit in 64 bits
+     */
+    private static long readVarint(ByteBuffer in) throws IllegalArgumentException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            result |= (long) (b & 0x7f) << shift;
+            if (b >= 0) {
+                if (shift == 63 && b > 1) break;
+                return result;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    /**
+     * `DataInput` counterpart of `readVarint(ByteBuffer)`
+     */
+    private static long readVarint(DataInput in) throws IllegalArgumentException, IOException {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            result |= (long) (b & 0x7f) << shift;
+            if (b >= 0) {
+                if (shift == 63 && b > 1) break;
+                return result;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+}
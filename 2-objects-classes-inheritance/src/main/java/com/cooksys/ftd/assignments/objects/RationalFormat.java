@@ -0,0 +1,327 @@
+package com.cooksys.ftd.assignments.objects;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Parses and formats rational values without regular expressions or intermediate strings, for bulk input and output.
+ * <p>
+ * The parser accepts, with an optional leading sign:
+ * <ul>
+ * <li>fractions: `3/4`, `-10/6`</li>
+ * <li>integers: `42`</li>
+ * <li>finite decimals: `0.75`, `-.5`, `2.`</li>
+ * <li>repeating decimals, with the repeating digits in parentheses: `0.(3)` is `1/3`, `1.2(34)` is `611/495`</li>
+ * </ul>
+ * Values are accumulated in `long`s and only fall back to `BigInteger` arithmetic when they overflow, and are
+ * returned in lowest terms: as a SimplifiedRational when they fit in `int`s, otherwise as a LongRational or a
+ * BigRational.
+ * <p>
+ * The formatter writes the `numerator/denominator` form used by `Rational.toString()` (with a leading `-` for
+ * negative values) into a caller-supplied `StringBuilder` or `ByteBuffer`.
+ */
+public final class RationalFormat {
+    // the type parsed values are built with when they fit in ints, see RationalArithmetic.toRational
+    private static final IRational RESULT_TYPE = SimplifiedRational.valueOf(0, 1);
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    // the magnitude of Long.MIN_VALUE, which Math.abs cannot represent
+    private static final String MIN_MAGNITUDE = "9223372036854775808";
+
+    private RationalFormat() {
+    }
+
+    /**
+     * Parses a whole character sequence, see `parse(CharSequence, int, int)`
+     *
+     * @throws NumberFormatException if the text is null or is not a rational value
+     */
+    public static IRational parse(CharSequence text) throws NumberFormatException {
+        if (text == null) throw new NumberFormatException("null");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parses a rational value from the characters of `text` between `start` (inclusive) and `end` (exclusive)
+     *
+     * @return the parsed value, in lowest terms
+     * @throws NumberFormatException     if the text is null, or if the range does not hold a rational value or holds
+     *                                   a zero denominator
+     * @throws IndexOutOfBoundsException if the range is not within the text
+     */
+    public static IRational parse(CharSequence text, int start, int end) throws NumberFormatException {
+        if (text == null) throw new NumberFormatException("null");
+        if (start < 0 || end > text.length() || start > end) throw new IndexOutOfBoundsException();
+        return new Parser(text, start, end).parse();
+    }
+
+    /**
+     * Parses a rational value from the ASCII bytes of `buffer` between the absolute indices `start` (inclusive) and
+     * `end` (exclusive), without changing the buffer's position, see `parse(CharSequence, int, int)`
+     *
+     * @return the parsed value, in lowest terms
+     * @throws NumberFormatException     if the buffer is null, or if the range does not hold a rational value or
+     *                                   holds a zero denominator
+     * @throws IndexOutOfBoundsException if the range is not within the buffer's limit
+     */
+    public static IRational parse(ByteBuffer buffer, int start, int end) throws NumberFormatException {
+        if (buffer == null) throw new NumberFormatException("null");
+        if (start < 0 || end > buffer.limit() || start > end) throw new IndexOutOfBoundsException();
+        return new Parser(new AsciiSequence(buffer), start, end).parse();
+    }
+
+    /**
+     * Appends `numerator/denominator` to the given builder, with a leading `-` if exactly one of them is negative
+     *
+     * @return the given builder
+     * @throws IllegalArgumentException if value or out is null
+     */
+    public static StringBuilder format(IRational value, StringBuilder out) throws IllegalArgumentException {
+        if (value == null || out == null) throw new IllegalArgumentException();
+        if (RationalArithmetic.isWide(value)) {
+            BigInteger n = value.getBigNumerator();
+            BigInteger d = value.getBigDenominator();
+            if (n.signum() < 0 != d.signum() < 0) out.append('-');
+            return out.append(n.abs()).append('/').append(d.abs());
+        }
+        long n = value.getLongNumerator();
+        long d = value.getLongDenominator();
+        if (n < 0 != d < 0) out.append('-');
+        appendMagnitude(n, out);
+        out.append('/');
+        appendMagnitude(d, out);
+        return out;
+    }
+
+    /**
+     * Writes `numerator/denominator` as ASCII bytes at the position of the given buffer, with a leading `-` if
+     * exactly one of them is negative, and advances its position past them
+     *
+     * @return the given buffer
+     * @throws IllegalArgumentException if value or out is null
+     * @throws BufferOverflowException  if the buffer does not have room for the value, in which case its position
+     *                                  is left unchanged
+     */
+    public static ByteBuffer format(IRational value, ByteBuffer out) throws IllegalArgumentException {
+        if (value == null || out == null) throw new IllegalArgumentException();
+        if (RationalArithmetic.isWide(value)) {
+            return out.put(format(value, new StringBuilder()).toString().getBytes(StandardCharsets.US_ASCII));
+        }
+        long n = value.getLongNumerator();
+        long d = value.getLongDenominator();
+        boolean negative = n < 0 != d < 0;
+        int length = (negative ? 1 : 0) + digits(n) + 1 + digits(d);
+        if (out.remaining() < length) throw new BufferOverflowException();
+        int position = out.position();
+        if (negative) out.put(position++, (byte) '-');
+        position = putMagnitude(n, out, position);
+        out.put(position++, (byte) '/');
+        position = putMagnitude(d, out, position);
+        out.position(position);
+        return out;
+    }
+
+    private static void appendMagnitude(long value, StringBuilder out) {
+        if (value == Long.MIN_VALUE) out.append(MIN_MAGNITUDE);
+        else out.append(Math.abs(value));
+    }
+
+    /**
+     * @return the number of decimal digits of the magnitude of the given value
+     */
+    private static int digits(long value) {
+        if (value == Long.MIN_VALUE) return MIN_MAGNITUDE.length();
+        value = Math.abs(value);
+        int digits = 1;
+        while (digits < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[digits]) digits++;
+        return digits;
+    }
+
+    /**
+     * Writes the decimal digits of the magnitude of the given value at an absolute index
+     *
+     * @return the index just past the written digits
+     */
+    private static int putMagnitude(long value, ByteBuffer out, int position) {
+        int end = position + digits(value);
+        // negative remainders handle Long.MIN_VALUE without overflow
+        long rest = value > 0 ? -value : value;
+        for (int i = end - 1; i >= position; i--) {
+            out.put(i, (byte) ('0' - rest % 10));
+            rest /= 10;
+        }
+        return end;
+    }
+
+    /**
+     * A read-only character view of the ASCII bytes of a buffer, indexed like the buffer itself
+     */
+    private static final class AsciiSequence implements CharSequence {
+        private final ByteBuffer buffer;
+
+        AsciiSequence(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int length() {
+            return this.buffer.limit();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (this.buffer.get(index) & 0xff);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            StringBuilder result = new StringBuilder(end - start);
+            for (int i = start; i < end; i++) result.append(charAt(i));
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return subSequence(0, length()).toString();
+        }
+    }
+
+    /**
+     * Parses a single value: finds where each part of the value starts and ends in one pass, then computes it
+     */
+    private static final class Parser {
+        private final CharSequence text;
+        private final int start;
+        private final int end;
+
+        Parser(CharSequence text, int start, int end) {
+            this.text = text;
+            this.start = start;
+            this.end = end;
+        }
+
+        IRational parse() throws NumberFormatException {
+            int i = this.start;
+            boolean negative = false;
+            if (i < this.end && (this.text.charAt(i) == '-' || this.text.charAt(i) == '+')) {
+                negative = this.text.charAt(i++) == '-';
+            }
+            int integerStart = i;
+            i = skipDigits(i);
+            int integerEnd = i;
+            if (i == this.end) {
+                if (integerStart == integerEnd) throw error();
+                return value(negative, integerStart, integerEnd, i, i, i, i);
+            }
+            char c = this.text.charAt(i);
+            if (c == '/') {
+                int denominatorStart = ++i;
+                i = skipDigits(i);
+                if (integerStart == integerEnd || denominatorStart == i || i != this.end) throw error();
+                return fraction(negative, integerStart, integerEnd, denominatorStart, i);
+            }
+            if (c != '.') throw error();
+            int fractionStart = ++i;
+            i = skipDigits(i);
+            int fractionEnd = i;
+            int repeatStart = i;
+            int repeatEnd = i;
+            if (i < this.end && this.text.charAt(i) == '(') {
+                repeatStart = ++i;
+                i = skipDigits(i);
+                repeatEnd = i;
+                if (repeatStart == repeatEnd || i == this.end || this.text.charAt(i) != ')') throw error();
+                i++;
+            }
+            if (i != this.end || (integerStart == integerEnd && fractionStart == fractionEnd && repeatStart == repeatEnd)) {
+                throw error();
+            }
+            return value(negative, integerStart, integerEnd, fractionStart, fractionEnd, repeatStart, repeatEnd);
+        }
+
+        private int skipDigits(int i) {
+            while (i < this.end) {
+                char c = this.text.charAt(i);
+                if (c < '0' || c > '9') break;
+                i++;
+            }
+            return i;
+        }
+
+        private IRational fraction(boolean negative, int numeratorStart, int numeratorEnd, int denominatorStart, int denominatorEnd) {
+            try {
+                long d = digits(denominatorStart, denominatorEnd);
+                if (d == 0) throw error();
+                long n = digits(numeratorStart, numeratorEnd);
+                return RationalArithmetic.toRational(RESULT_TYPE, negative ? -n : n, d);
+            } catch (ArithmeticException e) {
+                BigInteger n = bigDigits(numeratorStart, numeratorEnd);
+                BigInteger d = bigDigits(denominatorStart, denominatorEnd);
+                if (d.signum() == 0) throw error();
+                return RationalArithmetic.toRational(RESULT_TYPE, negative ? n.negate() : n, d);
+            }
+        }
+
+        /**
+         * `I.B(C)`, with `k` digits in `B` and `r` digits in `C`, is
+         * `((I * 10^k + B) * (10^r - 1) + C) / (10^k * (10^r - 1))`, or `(I * 10^k + B) / 10^k` without `C`
+         */
+        private IRational value(boolean negative, int integerStart, int integerEnd, int fractionStart, int fractionEnd,
+                                int repeatStart, int repeatEnd) {
+            int k = fractionEnd - fractionStart;
+            int r = repeatEnd - repeatStart;
+            try {
+                if (k >= POWERS_OF_TEN.length || r >= POWERS_OF_TEN.length) throw new ArithmeticException();
+                long n = Math.addExact(Math.multiplyExact(digits(integerStart, integerEnd), POWERS_OF_TEN[k]),
+                        digits(fractionStart, fractionEnd));
+                long d = POWERS_OF_TEN[k];
+                if (r > 0) {
+                    long nines = POWERS_OF_TEN[r] - 1;
+                    n = Math.addExact(Math.multiplyExact(n, nines), digits(repeatStart, repeatEnd));
+                    d = Math.multiplyExact(d, nines);
+                }
+                return RationalArithmetic.toRational(RESULT_TYPE, negative ? -n : n, d);
+            } catch (ArithmeticException e) {
+                BigInteger scale = BigInteger.TEN.pow(k);
+                BigInteger n = bigDigits(integerStart, integerEnd).multiply(scale).add(bigDigits(fractionStart, fractionEnd));
+                BigInteger d = scale;
+                if (r > 0) {
+                    BigInteger nines = BigInteger.TEN.pow(r).subtract(BigInteger.ONE);
+                    n = n.multiply(nines).add(bigDigits(repeatStart, repeatEnd));
+                    d = d.multiply(nines);
+                }
+                return RationalArithmetic.toRational(RESULT_TYPE, negative ? n.negate() : n, d);
+            }
+        }
+
+        /**
+         * @return the value of the digits between from and to (0 if there are none)
+         * @throws ArithmeticException if the value overflows a `long`
+         */
+        private long digits(int from, int to) throws ArithmeticException {
+            long value = 0;
+            for (int i = from; i < to; i++) {
+                value = Math.addExact(Math.multiplyExact(value, 10), this.text.charAt(i) - '0');
+            }
+            return value;
+        }
+
+        private BigInteger bigDigits(int from, int to) {
+            return from == to ? BigInteger.ZERO : new BigInteger(this.text.subSequence(from, to).toString());
+        }
+
+        private NumberFormatException error() {
+            return new NumberFormatException("Not a rational value: \"" + this.text.subSequence(this.start, this.end) + "\"");
+        }
+    }
+}
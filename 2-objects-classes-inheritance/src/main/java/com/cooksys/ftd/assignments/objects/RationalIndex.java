@@ -0,0 +1,101 @@
+package com.cooksys.ftd.assignments.objects;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * An immutable, sorted index of rational values, answering floor, ceiling and range queries by binary search.
+ * <p>
+ * Values are ordered by `IRational.compareTo`, so values of any type and representation can be mixed; equal values
+ * (such as `1/2` and `2/4`) are all kept, in the order they were given.
+ */
+public final class RationalIndex {
+    private final IRational[] values;
+
+    /**
+     * Creates an index of the given values
+     *
+     * @throws IllegalArgumentException if values or one of its elements is null
+     */
+    public RationalIndex(Collection<? extends IRational> values) throws IllegalArgumentException {
+        if (values == null) throw new IllegalArgumentException();
+        IRational[] sorted = values.toArray(new IRational[0]);
+        for (IRational value : sorted) {
+            if (value == null) throw new IllegalArgumentException();
+        }
+        Arrays.sort(sorted);
+        this.values = sorted;
+    }
+
+    /**
+     * @return the number of values in this index
+     */
+    public int size() {
+        return this.values.length;
+    }
+
+    /**
+     * @return the value at the given position in sorted order
+     */
+    public IRational get(int index) {
+        return this.values[index];
+    }
+
+    /**
+     * @return the greatest value less than or equal to the given key (the last one of them if there are several),
+     * or null if there is none
+     * @throws IllegalArgumentException if key is null
+     */
+    public IRational floor(IRational key) throws IllegalArgumentException {
+        int i = upperBound(key);
+        return i > 0 ? this.values[i - 1] : null;
+    }
+
+    /**
+     * @return the least value greater than or equal to the given key (the first one of them if there are several),
+     * or null if there is none
+     * @throws IllegalArgumentException if key is null
+     */
+    public IRational ceiling(IRational key) throws IllegalArgumentException {
+        int i = lowerBound(key);
+        return i < this.values.length ? this.values[i] : null;
+    }
+
+    /**
+     * @return the number of values `v` such that `from <= v <= to`, 0 if `from` is greater than `to`
+     * @throws IllegalArgumentException if from or to is null
+     */
+    public int countInRange(IRational from, IRational to) throws IllegalArgumentException {
+        return Math.max(0, upperBound(to) - lowerBound(from));
+    }
+
+    /**
+     * @return the position of the first value that is not less than key
+     */
+    private int lowerBound(IRational key) throws IllegalArgumentException {
+        if (key == null) throw new IllegalArgumentException();
+        int low = 0;
+        int high = this.values.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.values[middle].compareTo(key) < 0) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+
+    /**
+     * @return the position of the first value that is greater than key
+     */
+    private int upperBound(IRational key) throws IllegalArgumentException {
+        if (key == null) throw new IllegalArgumentException();
+        int low = 0;
+        int high = this.values.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (this.values[middle].compareTo(key) <= 0) low = middle + 1;
+            else high = middle;
+        }
+        return low;
+    }
+}
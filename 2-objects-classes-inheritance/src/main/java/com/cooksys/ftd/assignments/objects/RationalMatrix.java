@@ -0,0 +1,262 @@
+package com.cooksys.ftd.assignments.objects;
+
+import java.math.BigInteger;
+
+/**
+ * An immutable matrix of rational values, with an exact determinant, inverse and linear solver.
+ * <p>
+ * Elimination never touches fractions: each row is first scaled by the least common multiple of its denominators,
+ * and the resulting integer matrix is reduced by fraction-free (Bareiss) Gauss-Jordan elimination. Every division
+ * in that elimination is exact, and every intermediate entry is a minor of the scaled matrix, so the number of
+ * digits of the entries only grows linearly with the size of the matrix. No GCD is needed until the results are
+ * converted back to rational values, once, at the end.
+ */
+public final class RationalMatrix {
+    // the type results are built with when they fit in ints, see RationalArithmetic.toRational
+    private static final IRational RESULT_TYPE = SimplifiedRational.valueOf(0, 1);
+
+    private final int rows;
+    private final int columns;
+    private final BigInteger[][] numerators;
+    private final BigInteger[][] denominators;
+
+    /**
+     * Creates a matrix holding the given entries, row by row
+     *
+     * @throws IllegalArgumentException if entries, one of its rows or one of its entries is null, if there are no
+     *                                  entries, or if the rows do not all have the same length
+     */
+    public RationalMatrix(IRational[][] entries) throws IllegalArgumentException {
+        if (entries == null || entries.length == 0 || entries[0] == null || entries[0].length == 0) {
+            throw new IllegalArgumentException();
+        }
+        this.rows = entries.length;
+        this.columns = entries[0].length;
+        this.numerators = new BigInteger[this.rows][this.columns];
+        this.denominators = new BigInteger[this.rows][this.columns];
+        for (int i = 0; i < this.rows; i++) {
+            if (entries[i] == null || entries[i].length != this.columns) throw new IllegalArgumentException();
+            for (int j = 0; j < this.columns; j++) {
+                IRational entry = entries[i][j];
+                if (entry == null) throw new IllegalArgumentException();
+                BigInteger n = entry.getBigNumerator();
+                BigInteger d = entry.getBigDenominator();
+                if (d.signum() < 0) {
+                    n = n.negate();
+                    d = d.negate();
+                }
+                this.numerators[i][j] = n;
+                this.denominators[i][j] = d;
+            }
+        }
+    }
+
+    /**
+     * @return the number of rows of this matrix
+     */
+    public int getRows() {
+        return this.rows;
+    }
+
+    /**
+     * @return the number of columns of this matrix
+     */
+    public int getColumns() {
+        return this.columns;
+    }
+
+    /**
+     * @return the entry at the given row and column, in lowest terms
+     */
+    public IRational get(int row, int column) {
+        return RationalArithmetic.toRational(RESULT_TYPE, this.numerators[row][column], this.denominators[row][column]);
+    }
+
+    /**
+     * @return the determinant of this matrix
+     * @throws IllegalStateException if this matrix is not square
+     */
+    public IRational determinant() throws IllegalStateException {
+        checkSquare();
+        BigInteger[][] m = new BigInteger[this.rows][];
+        BigInteger scale = scaleRows(m, 0);
+        int sign = eliminate(m);
+        if (sign == 0) return RESULT_TYPE.construct(0, 1);
+        // every diagonal entry of the eliminated matrix is the determinant of the scaled matrix
+        BigInteger determinant = m[this.rows - 1][this.rows - 1];
+        return RationalArithmetic.toRational(RESULT_TYPE, sign < 0 ? determinant.negate() : determinant, scale);
+    }
+
+    /**
+     * @return the inverse of this matrix
+     * @throws IllegalStateException if this matrix is not square or is singular
+     */
+    public RationalMatrix inverse() throws IllegalStateException {
+        checkSquare();
+        BigInteger[][] m = new BigInteger[this.rows][];
+        scaleRows(m, this.rows);
+        // [S * A | S], where S scales each row: its solution is the inverse of A
+        for (int i = 0; i < this.rows; i++) {
+            BigInteger rowScale = rowScale(i);
+            for (int j = 0; j < this.rows; j++) {
+                m[i][this.columns + j] = i == j ? rowScale : BigInteger.ZERO;
+            }
+        }
+        return new RationalMatrix(solution(m, this.rows));
+    }
+
+    /**
+     * Solves `this * x = b` for `x`
+     *
+     * @param b the right-hand side of the system, with one value per row of this matrix
+     * @return the unique solution of the system
+     * @throws IllegalArgumentException if b or one of its values is null, or if it does not have one value per row
+     * @throws IllegalStateException    if this matrix is not square or is singular
+     */
+    public IRational[] solve(IRational[] b) throws IllegalArgumentException, IllegalStateException {
+        if (b == null || b.length != this.rows) throw new IllegalArgumentException();
+        checkSquare();
+        BigInteger[][] m = new BigInteger[this.rows][];
+        for (int i = 0; i < this.rows; i++) {
+            if (b[i] == null) throw new IllegalArgumentException();
+            BigInteger bn = b[i].getBigNumerator();
+            BigInteger bd = b[i].getBigDenominator();
+            if (bd.signum() < 0) {
+                bn = bn.negate();
+                bd = bd.negate();
+            }
+            // [S * A | S * b], scaling each row by the lcm of the denominators of both A and b
+            BigInteger rowScale = lcm(rowScale(i), bd);
+            m[i] = new BigInteger[this.columns + 1];
+            for (int j = 0; j < this.columns; j++) {
+                m[i][j] = this.numerators[i][j].multiply(rowScale.divide(this.denominators[i][j]));
+            }
+            m[i][this.columns] = bn.multiply(rowScale.divide(bd));
+        }
+        IRational[][] x = solution(m, 1);
+        IRational[] result = new IRational[this.rows];
+        for (int i = 0; i < this.rows; i++) {
+            result[i] = x[i][0];
+        }
+        return result;
+    }
+
+    /**
+     * @return a string representation of this matrix, one bracketed row per line
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        for (int i = 0; i < this.rows; i++) {
+            result.append('[');
+            for (int j = 0; j < this.columns; j++) {
+                if (j > 0) result.append(", ");
+                RationalFormat.format(get(i, j), result);
+            }
+            result.append(']');
+            if (i < this.rows - 1) result.append('\n');
+        }
+        return result.toString();
+    }
+
+    /**
+     * Eliminates an augmented matrix `[A | B]` whose first `rows` columns are square, and reads its solution
+     *
+     * @throws IllegalStateException if the square part is singular
+     */
+    private IRational[][] solution(BigInteger[][] m, int width) throws IllegalStateException {
+        if (eliminate(m) == 0) throw new IllegalStateException();
+        // each diagonal entry is now the determinant, and the right-hand side holds determinant * solution
+        IRational[][] x = new IRational[this.rows][width];
+        for (int i = 0; i < this.rows; i++) {
+            for (int j = 0; j < width; j++) {
+                x[i][j] = RationalArithmetic.toRational(RESULT_TYPE, m[i][this.rows + j], m[i][i]);
+            }
+        }
+        return x;
+    }
+
+    /**
+     * Fills the first columns of `m` with the rows of this matrix, each scaled to integers by the lcm of its
+     * denominators, leaving `extra` (null) columns at the end of each row
+     *
+     * @return the product of the row scales
+     */
+    private BigInteger scaleRows(BigInteger[][] m, int extra) {
+        BigInteger scale = BigInteger.ONE;
+        for (int i = 0; i < this.rows; i++) {
+            BigInteger rowScale = rowScale(i);
+            m[i] = new BigInteger[this.columns + extra];
+            for (int j = 0; j < this.columns; j++) {
+                m[i][j] = this.numerators[i][j].multiply(rowScale.divide(this.denominators[i][j]));
+            }
+            scale = scale.multiply(rowScale);
+        }
+        return scale;
+    }
+
+    /**
+     * @return the least common multiple of the denominators of a row
+     */
+    private BigInteger rowScale(int row) {
+        BigInteger scale = BigInteger.ONE;
+        for (int j = 0; j < this.columns; j++) {
+            scale = lcm(scale, this.denominators[row][j]);
+        }
+        return scale;
+    }
+
+    /**
+     * Fraction-free Gauss-Jordan elimination of the square part of an integer matrix, in place: once done, every
+     * off-diagonal entry of the square part is 0 and every diagonal entry is its determinant (up to the returned
+     * sign), and the remaining columns have been transformed by the same row operations.
+     * <p>
+     * Step `k` replaces every entry outside of row `k` and column `k` by `(p * a[i][j] - a[i][k] * a[k][j]) / q`,
+     * where `p` is the current pivot and `q` is the previous one; Sylvester's identity guarantees the division is
+     * exact.
+     *
+     * @return 1 or -1, the sign of the row permutation used to find non-zero pivots, or 0 if the square part is
+     * singular (in which case the elimination is left incomplete)
+     */
+    private int eliminate(BigInteger[][] m) {
+        int n = this.rows;
+        int width = m[0].length;
+        int sign = 1;
+        BigInteger previous = BigInteger.ONE;
+        for (int k = 0; k < n; k++) {
+            if (m[k][k].signum() == 0) {
+                int swap = k + 1;
+                while (swap < n && m[swap][k].signum() == 0) swap++;
+                if (swap == n) return 0;
+                BigInteger[] row = m[k];
+                m[k] = m[swap];
+                m[swap] = row;
+                sign = -sign;
+            }
+            BigInteger pivot = m[k][k];
+            for (int i = 0; i < n; i++) {
+                if (i == k) continue;
+                BigInteger factor = m[i][k];
+                for (int j = 0; j < width; j++) {
+                    if (j == k) continue;
+                    BigInteger value = pivot.multiply(m[i][j]);
+                    if (factor.signum() != 0) value = value.subtract(factor.multiply(m[k][j]));
+                    m[i][j] = previous.equals(BigInteger.ONE) ? value : value.divide(previous);
+                }
+                m[i][k] = BigInteger.ZERO;
+            }
+            previous = pivot;
+        }
+        return sign;
+    }
+
+    private void checkSquare() throws IllegalStateException {
+        if (this.rows != this.columns) throw new IllegalStateException();
+    }
+
+    private static BigInteger lcm(BigInteger a, BigInteger b) {
+        if (a.equals(b) || b.equals(BigInteger.ONE)) return a;
+        if (a.equals(BigInteger.ONE)) return b;
+        return a.divide(a.gcd(b)).multiply(b);
+    }
+}
@@ -0,0 +1,61 @@
+package com.cooksys.ftd.assignments.objects;
+
+import java.util.Spliterator;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Sums or multiplies the rational values of a spliterator on a fork-join pool.
+ * <p>
+ * Spliterators larger than the threshold are split and reduced concurrently. Each leaf reduces its values into its
+ * own `RationalAccumulator`, and the partial results are combined in encounter order. Since every step is exact,
+ * the result is the same value the sequential reduction produces.
+ */
+class RationalReductionTask extends RecursiveTask<RationalAccumulator> {
+    private static final long serialVersionUID = 1L;
+
+    private final Spliterator<? extends IRational> values;
+    private final boolean product;
+    private final long threshold;
+
+    /**
+     * @param values    the values to reduce
+     * @param product   true to multiply the values, false to sum them
+     * @param threshold the largest (estimated) number of values that is reduced without splitting any further
+     */
+    RationalReductionTask(Spliterator<? extends IRational> values, boolean product, long threshold) {
+        this.values = values;
+        this.product = product;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected RationalAccumulator compute() {
+        Spliterator<? extends IRational> prefix;
+        if (values.estimateSize() <= threshold || (prefix = values.trySplit()) == null) {
+            return reduce(values, product);
+        }
+        RationalReductionTask left = new RationalReductionTask(prefix, product, threshold);
+        left.fork();
+        RationalAccumulator right = new RationalReductionTask(values, product, threshold).compute();
+        RationalAccumulator result = left.join();
+        return product ? result.mul(right) : result.add(right);
+    }
+
+    /**
+     * Sequentially reduces the remaining values of a spliterator.
+     *
+     * @param values  the values to reduce
+     * @param product true to multiply the values, false to sum them
+     * @return an accumulator holding the product (starting from `1`) or the sum (starting from `0`) of the values
+     * @throws IllegalArgumentException if one of the values is null
+     */
+    static RationalAccumulator reduce(Spliterator<? extends IRational> values, boolean product) throws IllegalArgumentException {
+        RationalAccumulator result = new RationalAccumulator(product ? 1 : 0, 1);
+        if (product) {
+            values.forEachRemaining(result::mul);
+        } else {
+            values.forEachRemaining(result::add);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,104 @@
+package com.cooksys.ftd.assignments.objects;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collector;
+
+/**
+ * Exact sums and products of many rational values, sequential or on a fork-join pool.
+ * <p>
+ * Every reduction goes through `RationalAccumulator`s, so intermediate values are never rounded or wrapped around,
+ * and the parallel reductions return exactly the same value as the sequential ones: in lowest terms, as a
+ * SimplifiedRational when it fits in `int`s, otherwise as a LongRational or a BigRational.
+ */
+public final class RationalReductions {
+
+    /**
+     * The smallest number of values the parallel reductions hand to a single worker, below which splitting costs
+     * more than it saves
+     */
+    private static final int PARALLEL_MIN_CHUNK = 1024;
+
+    private RationalReductions() {
+    }
+
+    /**
+     * @return the exact sum of the given values, `0` if there are none
+     * @throws IllegalArgumentException if values or one of its elements is null
+     */
+    public static IRational sum(Iterable<? extends IRational> values) throws IllegalArgumentException {
+        if (values == null) throw new IllegalArgumentException();
+        return RationalReductionTask.reduce(values.spliterator(), false).toRational();
+    }
+
+    /**
+     * @return the exact product of the given values, `1` if there are none
+     * @throws IllegalArgumentException if values or one of its elements is null
+     */
+    public static IRational product(Iterable<? extends IRational> values) throws IllegalArgumentException {
+        if (values == null) throw new IllegalArgumentException();
+        return RationalReductionTask.reduce(values.spliterator(), true).toRational();
+    }
+
+    /**
+     * Calculates the same value as `sum(values)` on the common fork-join pool
+     *
+     * @throws IllegalArgumentException if values or one of its elements is null
+     */
+    public static IRational parallelSum(Collection<? extends IRational> values) throws IllegalArgumentException {
+        return parallelSum(values, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Calculates the same value as `sum(values)` on a given fork-join pool. The values are split with their
+     * spliterator, and each worker sums its own part into a local accumulator.
+     *
+     * @throws IllegalArgumentException if values, one of its elements or the given pool is null
+     */
+    public static IRational parallelSum(Collection<? extends IRational> values, ForkJoinPool pool) throws IllegalArgumentException {
+        return reduce(values, false, pool);
+    }
+
+    /**
+     * Calculates the same value as `product(values)` on the common fork-join pool
+     *
+     * @throws IllegalArgumentException if values or one of its elements is null
+     */
+    public static IRational parallelProduct(Collection<? extends IRational> values) throws IllegalArgumentException {
+        return parallelProduct(values, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Calculates the same value as `product(values)` on a given fork-join pool, see `parallelSum`
+     *
+     * @throws IllegalArgumentException if values, one of its elements or the given pool is null
+     */
+    public static IRational parallelProduct(Collection<? extends IRational> values, ForkJoinPool pool) throws IllegalArgumentException {
+        return reduce(values, true, pool);
+    }
+
+    /**
+     * @return a collector summing rational values exactly, which can be used on parallel streams; `0` for an empty
+     * stream
+     */
+    public static Collector<IRational, RationalAccumulator, IRational> summing() {
+        return Collector.of(RationalAccumulator::new, RationalAccumulator::add, RationalAccumulator::add,
+                RationalAccumulator::toRational);
+    }
+
+    /**
+     * @return a collector multiplying rational values exactly, which can be used on parallel streams; `1` for an
+     * empty stream
+     */
+    public static Collector<IRational, RationalAccumulator, IRational> multiplying() {
+        return Collector.of(() -> new RationalAccumulator(1, 1), RationalAccumulator::mul, RationalAccumulator::mul,
+                RationalAccumulator::toRational);
+    }
+
+    private static IRational reduce(Collection<? extends IRational> values, boolean product, ForkJoinPool pool) throws IllegalArgumentException {
+        if (values == null || pool == null) throw new IllegalArgumentException();
+        // a few chunks per worker keeps the pool busy when some parts hold wider values than others
+        long threshold = Math.max(PARALLEL_MIN_CHUNK, values.size() / (pool.getParallelism() * 4L));
+        return pool.invoke(new RationalReductionTask(values.spliterator(), product, threshold)).toRational();
+    }
+}
@@ -3,8 +3,38 @@ package com.cooksys.ftd.assignments.objects;
 import sun.reflect.generics.reflectiveObjects.NotImplementedException;
 
 public class SimplifiedRational implements IRational {
-	private int numerator;
-	private int denominator;
+	/**
+	 * `valueOf` returns cached instances for numerators and denominators in `[-CACHE_LIMIT, CACHE_LIMIT]`
+	 */
+	public static final int CACHE_LIMIT = 32;
+
+	private final int numerator;
+	private final int denominator;
+
+	/**
+	 * Holds the cached values, built the first time `valueOf` needs them. Each slot is indexed by the
+	 * unsimplified numerator/denominator pair, and equal values share one instance.
+	 */
+	private static final class Cache {
+		private static final int WIDTH = 2 * CACHE_LIMIT + 1;
+		private static final SimplifiedRational[] VALUES = new SimplifiedRational[WIDTH * WIDTH];
+
+		static {
+			for (int n = -CACHE_LIMIT; n <= CACHE_LIMIT; n++) {
+				for (int d = -CACHE_LIMIT; d <= CACHE_LIMIT; d++) {
+					if (d == 0) continue;
+					SimplifiedRational value = new SimplifiedRational(n, d);
+					int canonical = index(value.numerator, value.denominator);
+					if (VALUES[canonical] == null) VALUES[canonical] = value;
+					VALUES[index(n, d)] = VALUES[canonical];
+				}
+			}
+		}
+
+		private static int index(int numerator, int denominator) {
+			return (numerator + CACHE_LIMIT) * WIDTH + denominator + CACHE_LIMIT;
+		}
+	}
 
     /**
      * Determines the greatest common denominator for the given values
@@ -16,13 +46,20 @@ public class SimplifiedRational implements IRational {
      */
     public static int gcd(int a, int b) throws IllegalArgumentException {
     	if (a <= 0 || b < 0) throw new IllegalArgumentException("GCD");
-    	while(a!=0 && b!=0) // until either one of them is 0
-    	  {
-    	     int c = b;
-    	     b = a%b;
-    	     a = c;
-    	  }
-    	  return a+b; // either one is 0, so return the non-zero value 
+    	if (b == 0) return a;
+    	// binary (Stein) gcd: strip the shared powers of two, then subtract odd values until one of them is 0
+    	int shift = Integer.numberOfTrailingZeros(a | b);
+    	a >>= Integer.numberOfTrailingZeros(a);
+    	do {
+    		b >>= Integer.numberOfTrailingZeros(b);
+    		if (a > b) {
+    			int c = a;
+    			a = b;
+    			b = c;
+    		}
+    		b -= a;
+    	} while (b != 0);
+    	return a << shift;
     }
 
     /**
@@ -70,9 +107,49 @@ public class SimplifiedRational implements IRational {
      */
     public SimplifiedRational(int numerator, int denominator) throws IllegalArgumentException {
     	if (denominator == 0) throw new IllegalArgumentException("Constructor");
-    	int[] result = simplify(numerator,denominator);
-    	this.numerator = result[0];
-    	this.denominator = result[1];
+    	// same result as simplify, without the intermediate array
+    	if (numerator == 0) {
+    		this.numerator = 0;
+    		this.denominator = 1;
+    	} else {
+    		int gcd = gcd(Math.abs(numerator), Math.abs(denominator));
+    		this.numerator = numerator / gcd;
+    		this.denominator = denominator / gcd;
+    	}
+    }
+
+    /**
+     * Returns a rational value equal to `new SimplifiedRational(numerator, denominator)`.
+     * <p>
+     * Like `Integer.valueOf`, values whose numerator and denominator both lie in
+     * `[-CACHE_LIMIT, CACHE_LIMIT]` come from a shared cache and are not allocated.
+     *
+     * @param numerator   the numerator of the rational value
+     * @param denominator the denominator of the rational value
+     * @return the simplified rational value, possibly a shared instance
+     * @throws IllegalArgumentException if the given denominator is 0
+     */
+    public static SimplifiedRational valueOf(int numerator, int denominator) throws IllegalArgumentException {
+    	if (denominator == 0) throw new IllegalArgumentException("valueOf");
+    	if (numerator >= -CACHE_LIMIT && numerator <= CACHE_LIMIT && denominator >= -CACHE_LIMIT && denominator <= CACHE_LIMIT) {
+    		return Cache.VALUES[Cache.index(numerator, denominator)];
+    	}
+    	return new SimplifiedRational(numerator, denominator);
+    }
+
+    /**
+     * Returns the simplified fraction closest to `value` among those whose denominator is at most
+     * `maxDenominator`, see `Rational.fromDouble`
+     *
+     * @param value          the value to approximate
+     * @param maxDenominator the greatest denominator allowed
+     * @return the best approximation of value, possibly a shared instance
+     * @throws IllegalArgumentException if value is not finite, if maxDenominator is less than 1, or if the
+     *                                  numerator of the approximation does not fit in an `int`
+     */
+    public static SimplifiedRational fromDouble(double value, int maxDenominator) throws IllegalArgumentException {
+        long packed = RationalArithmetic.bestApproximation(value, maxDenominator);
+        return valueOf((int) (packed >> 32), (int) packed);
     }
 
     /**
@@ -99,13 +176,87 @@ public class SimplifiedRational implements IRational {
      *
      * @param numerator   the numerator of the rational value to construct
      * @param denominator the denominator of the rational value to construct
-     * @return the constructed rational value (specifically, a SimplifiedRational value)
+     * @return the constructed rational value (specifically, a SimplifiedRational value, shared if it is a
+     * small value, see `valueOf`)
      * @throws IllegalArgumentException if the given denominator is 0
      */
     @Override
     public SimplifiedRational construct(int numerator, int denominator) throws IllegalArgumentException {
     	if (denominator == 0) throw new IllegalArgumentException("Construct Method");
-    	return new SimplifiedRational(numerator, denominator);
+    	return valueOf(numerator, denominator);
+    }
+
+    /**
+     * Negation specialised for SimplifiedRational, see `add`
+     */
+    @Override
+    public final SimplifiedRational negate() {
+    	return valueOf(this.numerator * -1, this.denominator);
+    }
+
+    /**
+     * Inversion specialised for SimplifiedRational, see `add`
+     *
+     * @throws IllegalStateException if the numerator of this rational value is 0
+     */
+    @Override
+    public final SimplifiedRational invert() throws IllegalStateException {
+    	if (this.numerator == 0) throw new IllegalStateException();
+    	return valueOf(this.denominator, this.numerator);
+    }
+
+    /**
+     * Addition specialised for SimplifiedRational, with the same wrap-around `int` arithmetic as `IRational.add`.
+     * <p>
+     * The default methods of IRational read both operands through interface getters and build the result with a
+     * virtual `construct`, so a call site that sees several implementations stops inlining them. This final
+     * method reads the fields of SimplifiedRational operands directly and builds its result without any virtual call.
+     *
+     * @throws IllegalArgumentException if that is null
+     */
+    @Override
+    public final SimplifiedRational add(IRational that) throws IllegalArgumentException {
+    	if (that == null) throw new IllegalArgumentException();
+    	int n2 = numeratorOf(that);
+    	int d2 = denominatorOf(that);
+    	return valueOf(this.numerator * d2 + n2 * this.denominator, this.denominator * d2);
+    }
+
+    /**
+     * Subtraction specialised for SimplifiedRational, see `add`
+     *
+     * @throws IllegalArgumentException if that is null
+     */
+    @Override
+    public final SimplifiedRational sub(IRational that) throws IllegalArgumentException {
+    	if (that == null) throw new IllegalArgumentException();
+    	int n2 = numeratorOf(that);
+    	int d2 = denominatorOf(that);
+    	return valueOf(this.numerator * d2 - n2 * this.denominator, this.denominator * d2);
+    }
+
+    /**
+     * Multiplication specialised for SimplifiedRational, see `add`
+     *
+     * @throws IllegalArgumentException if that is null
+     */
+    @Override
+    public final SimplifiedRational mul(IRational that) throws IllegalArgumentException {
+    	if (that == null) throw new IllegalArgumentException();
+    	return valueOf(this.numerator * numeratorOf(that), this.denominator * denominatorOf(that));
+    }
+
+    /**
+     * Division specialised for SimplifiedRational, see `add`
+     *
+     * @throws IllegalArgumentException if that is null or if the numerator of that is 0
+     */
+    @Override
+    public final SimplifiedRational div(IRational that) throws IllegalArgumentException {
+    	if (that == null) throw new IllegalArgumentException();
+    	int n2 = numeratorOf(that);
+    	if (n2 == 0) throw new IllegalArgumentException();
+    	return valueOf(this.numerator * denominatorOf(that), this.denominator * n2);
     }
 
     /**
@@ -122,6 +273,14 @@ public class SimplifiedRational implements IRational {
         }else return false;
     }
 
+    /**
+     * @return a hash code consistent with `equals`, combining the numerator and the denominator
+     */
+    @Override
+    public int hashCode() {
+    	return 31 * this.numerator + this.denominator;
+    }
+
     /**
      * If this is positive, the string should be of the form `numerator/denominator`
      * <p>
@@ -135,4 +294,12 @@ public class SimplifiedRational implements IRational {
         if((this.numerator < 0 || this.denominator < 0) && !(this.numerator < 0 && this.denominator < 0)) return "-" + s;
         else return s;
     }
+
+    private static int numeratorOf(IRational value) {
+    	return value instanceof SimplifiedRational ? ((SimplifiedRational) value).numerator : value.getNumerator();
+    }
+
+    private static int denominatorOf(IRational value) {
+    	return value instanceof SimplifiedRational ? ((SimplifiedRational) value).denominator : value.getDenominator();
+    }
 }
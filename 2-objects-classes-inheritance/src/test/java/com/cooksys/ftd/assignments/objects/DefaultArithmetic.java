@@ -0,0 +1,47 @@
+package com.cooksys.ftd.assignments.objects;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the specialized arithmetic of a rational class against the default methods of IRational
+ */
+final class DefaultArithmetic {
+
+    private DefaultArithmetic() {
+    }
+
+    // the same value, through the default methods of IRational
+    static IRational viaDefaults(IRational value) {
+        return new IRational() {
+            @Override
+            public int getNumerator() {
+                return value.getNumerator();
+            }
+
+            @Override
+            public int getDenominator() {
+                return value.getDenominator();
+            }
+
+            @Override
+            public IRational construct(int numerator, int denominator) {
+                return value.construct(numerator, denominator);
+            }
+        };
+    }
+
+    // r1 with r2, of the same class, and with other, of another class, give the same results as through the defaults
+    static void assertMatchesDefaults(IRational r1, IRational r2, IRational other) {
+        IRational d1 = viaDefaults(r1);
+        assertEquals(d1.negate(), r1.negate());
+        assertEquals(d1.add(r2), r1.add(r2));
+        assertEquals(d1.add(other), r1.add(other));
+        assertEquals(d1.sub(r2), r1.sub(r2));
+        assertEquals(d1.sub(other), r1.sub(other));
+        assertEquals(d1.mul(r2), r1.mul(r2));
+        assertEquals(d1.mul(other), r1.mul(other));
+        if (r1.getNumerator() != 0) assertEquals(d1.invert(), r1.invert());
+        if (r2.getNumerator() != 0) assertEquals(d1.div(r2), r1.div(r2));
+        if (other.getNumerator() != 0) assertEquals(d1.div(other), r1.div(other));
+    }
+}
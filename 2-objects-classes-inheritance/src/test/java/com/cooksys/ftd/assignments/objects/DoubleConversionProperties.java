@@ -0,0 +1,116 @@
+package com.cooksys.ftd.assignments.objects;
+
+import com.pholser.junit.quickcheck.Property;
+import com.pholser.junit.quickcheck.When;
+import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnitQuickcheck.class)
+public class DoubleConversionProperties {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    // |p / q - x|, exactly
+    private static BigDecimal distance(long p, long q, double x) {
+        return new BigDecimal(p).subtract(new BigDecimal(x).multiply(new BigDecimal(q))).abs()
+                .divide(new BigDecimal(q), 400, RoundingMode.HALF_EVEN);
+    }
+
+    @Property
+    public void fromDoubleIsClosest(@InRange(min = "-1000", max = "1000") double x,
+                                    @InRange(min = "1", max = "300") int maxDenominator) {
+        Rational r = Rational.fromDouble(x, maxDenominator);
+        assertTrue(r.getDenominator() > 0 && r.getDenominator() <= maxDenominator);
+        assertEquals(BigInteger.ONE, r.getBigNumerator().gcd(r.getBigDenominator()));
+        BigDecimal best = distance(r.getNumerator(), r.getDenominator(), x);
+        for (long q = 1; q <= maxDenominator; q++) {
+            long p = (long) Math.floor(x * q);
+            for (long candidate = p - 1; candidate <= p + 2; candidate++) {
+                assertTrue(best.compareTo(distance(candidate, q, x)) <= 0);
+            }
+        }
+        assertEquals(SimplifiedRational.fromDouble(x, maxDenominator), new SimplifiedRational(r.getNumerator(), r.getDenominator()));
+    }
+
+    @Property
+    public void fromDoubleIsExactWhenPossible(int n, @InRange(min = "0", max = "30") int k) {
+        // n / 2^k is a double, and the denominator allows it
+        double x = n / (double) (1 << k);
+        SimplifiedRational s = SimplifiedRational.fromDouble(x, 1 << k);
+        assertEquals(new SimplifiedRational(n, 1 << k), s);
+        assertEquals(x, s.toDouble(), 0.0);
+    }
+
+    @Test
+    public void fromDoubleKnownValues() {
+        assertEquals(new Rational(355, 113), Rational.fromDouble(Math.PI, 1000));
+        assertEquals(new Rational(311, 99), Rational.fromDouble(Math.PI, 100));
+        assertEquals(new Rational(22, 7), Rational.fromDouble(Math.PI, 56));
+        assertEquals(new Rational(3, 1), Rational.fromDouble(Math.PI, 1));
+        assertEquals(new Rational(1, 3), Rational.fromDouble(1.0 / 3, Integer.MAX_VALUE));
+        assertEquals(new Rational(-2, 3), Rational.fromDouble(-2.0 / 3, 1000));
+        assertEquals(new Rational(0, 1), Rational.fromDouble(-0.0, 7));
+        assertEquals(new Rational(0, 1), Rational.fromDouble(1e-30, Integer.MAX_VALUE));
+        assertEquals(new Rational(0, 1), Rational.fromDouble(Double.MIN_VALUE, Integer.MAX_VALUE));
+        assertEquals(new Rational(Integer.MIN_VALUE, 1), Rational.fromDouble(Integer.MIN_VALUE, 1000));
+        assertEquals(new Rational(Integer.MAX_VALUE, 1), Rational.fromDouble(Integer.MAX_VALUE, 1000));
+        assertEquals(new Rational(1, Integer.MAX_VALUE), Rational.fromDouble(1.0 / Integer.MAX_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Property
+    public void fromDoubleFail(@InRange(max = "0") int maxDenominator) {
+        thrown.expect(IllegalArgumentException.class);
+        Rational.fromDouble(0.5, maxDenominator);
+    }
+
+    @Property
+    public void fromDoubleFailNotFinite(@InRange(min = "0", max = "2") int which) {
+        thrown.expect(IllegalArgumentException.class);
+        SimplifiedRational.fromDouble(which == 0 ? Double.NaN : which == 1 ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY, 10);
+    }
+
+    @Property
+    public void fromDoubleFailTooLarge(@InRange(min = "2147483648", max = "1e300") double x) {
+        thrown.expect(IllegalArgumentException.class);
+        Rational.fromDouble(x, 1);
+    }
+
+    @Property
+    public void toDoubleMatchesDivision(@GenRat Rational r, @GenSim SimplifiedRational s) {
+        assertEquals((double) r.getNumerator() / r.getDenominator(), r.toDouble(), 0.0);
+        assertEquals((double) s.getNumerator() / s.getDenominator(), s.toDouble(), 0.0);
+    }
+
+    @Property
+    public void toDoubleIsCorrectlyRounded(long n, @When(satisfies = "#_ != 0") long d, @InRange(min = "0", max = "1100") int shift) {
+        assertNearest(n, d, new LongRational(n, d).toDouble());
+        BigInteger big = BigInteger.valueOf(n).shiftLeft(shift);
+        assertNearest(big, BigInteger.valueOf(d), new BigRational(big, BigInteger.valueOf(d)).toDouble());
+        assertNearest(BigInteger.valueOf(d), big.add(BigInteger.ONE), new BigRational(BigInteger.valueOf(d), big.add(BigInteger.ONE)).toDouble());
+    }
+
+    private static void assertNearest(long n, long d, double actual) {
+        assertNearest(BigInteger.valueOf(n), BigInteger.valueOf(d), actual);
+    }
+
+    // the exact value lies within half an ulp of actual
+    private static void assertNearest(BigInteger n, BigInteger d, double actual) {
+        BigDecimal exact = new BigDecimal(n).divide(new BigDecimal(d), 1200, RoundingMode.HALF_EVEN);
+        if (Double.isInfinite(actual)) {
+            assertTrue(exact.abs().compareTo(new BigDecimal(Double.MAX_VALUE)) > 0);
+            return;
+        }
+        BigDecimal error = exact.subtract(new BigDecimal(actual)).abs();
+        assertTrue(error.compareTo(new BigDecimal(Math.ulp(actual)).divide(BigDecimal.valueOf(2))) <= 0);
+    }
+}
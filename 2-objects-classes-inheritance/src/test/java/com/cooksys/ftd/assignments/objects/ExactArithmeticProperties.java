@@ -0,0 +1,189 @@
+package com.cooksys.ftd.assignments.objects;
+
+import com.pholser.junit.quickcheck.Property;
+import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+
+import java.math.BigInteger;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnitQuickcheck.class)
+public class ExactArithmeticProperties {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static BigInteger big(long value) {
+        return BigInteger.valueOf(value);
+    }
+
+    private static void assertValue(BigInteger n, BigInteger d, IRational actual) {
+        assertEquals(n.multiply(actual.getBigDenominator()), actual.getBigNumerator().multiply(d));
+    }
+
+    private static boolean fitsInt(long value) {
+        return value == (int) value;
+    }
+
+    @Property
+    public void addExact(@GenRat Rational r1, @GenRat Rational r2) {
+        long n1 = r1.getNumerator(), d1 = r1.getDenominator(), n2 = r2.getNumerator(), d2 = r2.getDenominator();
+        BigInteger n = big(n1).multiply(big(d2)).add(big(n2).multiply(big(d1)));
+        BigInteger d = big(d1).multiply(big(d2));
+        IRational result = r1.addExact(r2);
+        assertValue(n, d, result);
+        if (n.bitLength() < 32 && d.bitLength() < 32) {
+            assertEquals(new Rational(n.intValue(), d.intValue()), result);
+        }
+    }
+
+    @Property
+    public void subExact(@GenSim SimplifiedRational r1, @GenSim SimplifiedRational r2) {
+        long n1 = r1.getNumerator(), d1 = r1.getDenominator(), n2 = r2.getNumerator(), d2 = r2.getDenominator();
+        BigInteger n = big(n1).multiply(big(d2)).subtract(big(n2).multiply(big(d1)));
+        BigInteger d = big(d1).multiply(big(d2));
+        IRational result = r1.subExact(r2);
+        assertValue(n, d, result);
+        BigInteger gcd = n.gcd(d);
+        if (n.divide(gcd).bitLength() < 32 && d.divide(gcd).bitLength() < 32) {
+            assertTrue(result instanceof SimplifiedRational);
+        } else {
+            assertTrue(result instanceof LongRational);
+        }
+    }
+
+    @Property
+    public void mulExact(@GenRat Rational r1, @GenSim SimplifiedRational r2) {
+        IRational result = r1.mulExact(r2);
+        assertValue(big(r1.getNumerator()).multiply(big(r2.getNumerator())),
+                big(r1.getDenominator()).multiply(big(r2.getDenominator())), result);
+    }
+
+    @Property
+    public void divExact(@GenSim SimplifiedRational r1, @GenRat Rational r2) {
+        if (r2.getNumerator() == 0) return;
+        IRational result = r1.divExact(r2);
+        assertValue(big(r1.getNumerator()).multiply(big(r2.getDenominator())),
+                big(r1.getDenominator()).multiply(big(r2.getNumerator())), result);
+    }
+
+    @Property
+    public void smallOperandsKeepTheirType(@InRange(min = "-1000", max = "1000") int n1, @InRange(min = "1", max = "1000") int d1,
+                                          @InRange(min = "-1000", max = "1000") int n2, @InRange(min = "1", max = "1000") int d2) {
+        Rational r1 = new Rational(n1, d1);
+        Rational r2 = new Rational(n2, d2);
+        assertEquals(r1.add(r2), r1.addExact(r2));
+        assertEquals(r1.sub(r2), r1.subExact(r2));
+        // products are cross-cancelled, so only the value is guaranteed to match the unsimplified Rational
+        IRational product = r1.mulExact(r2);
+        assertTrue(product instanceof Rational);
+        assertValue(big(r1.mul(r2).getNumerator()), big(r1.mul(r2).getDenominator()), product);
+
+        SimplifiedRational s1 = new SimplifiedRational(n1, d1);
+        SimplifiedRational s2 = new SimplifiedRational(n2, d2);
+        assertEquals(s1.add(s2), s1.addExact(s2));
+        assertEquals(s1.sub(s2), s1.subExact(s2));
+        assertEquals(s1.mul(s2), s1.mulExact(s2));
+        if (n2 != 0) {
+            assertEquals(s1.div(s2), s1.divExact(s2));
+        }
+    }
+
+    @Property
+    public void crossCancelledProductsStayReduced(long n1, @InRange(min = "1") long d1, long n2, @InRange(min = "1") long d2) {
+        LongRational r1 = new LongRational(n1, d1);
+        LongRational r2 = new LongRational(n2, d2);
+        IRational product = r1.mulExact(r2);
+        assertEquals(BigInteger.ONE, product.getBigNumerator().gcd(product.getBigDenominator()));
+        assertValue(big(r1.getLongNumerator()).multiply(big(r2.getLongNumerator())),
+                big(r1.getLongDenominator()).multiply(big(r2.getLongDenominator())), product);
+        if (n2 != 0) {
+            IRational quotient = r1.divExact(r2);
+            assertEquals(BigInteger.ONE, quotient.getBigNumerator().gcd(quotient.getBigDenominator()));
+            assertValue(big(r1.getLongNumerator()).multiply(big(r2.getLongDenominator())),
+                    big(r1.getLongDenominator()).multiply(big(r2.getLongNumerator())), quotient);
+        }
+    }
+
+    @Property
+    public void binaryGcdMatchesBigInteger(long a, long b) {
+        long gcd = RationalArithmetic.gcd(a, b);
+        assertEquals(big(a).gcd(big(b)), gcd == Long.MIN_VALUE ? big(gcd).negate() : big(gcd));
+    }
+
+    @Property
+    public void chains(@GenSim SimplifiedRational r1, @GenSim SimplifiedRational r2, @GenSim SimplifiedRational r3) {
+        // grows well past the long range, then shrinks back
+        IRational product = r1.mulExact(r2).mulExact(r3).mulExact(r1).mulExact(r2);
+        IRational quotient = product.divExact(r1).divExact(r2).divExact(r3).divExact(r1).divExact(r2);
+        if (r1.getNumerator() != 0 && r2.getNumerator() != 0 && r3.getNumerator() != 0) {
+            assertValue(BigInteger.ONE, BigInteger.ONE, quotient);
+        }
+
+        IRational sum = r1.addExact(r2).addExact(r3).subExact(r1).subExact(r2).subExact(r3);
+        assertValue(BigInteger.ZERO, BigInteger.ONE, sum);
+    }
+
+    @Property
+    public void longRational(long n, long d) {
+        if (d == 0) return;
+        BigInteger gcd = big(n).gcd(big(d));
+        BigInteger expectedN = big(n).divide(gcd).multiply(big(Long.signum(d)));
+        BigInteger expectedD = big(d).abs().divide(gcd);
+        if (expectedN.bitLength() >= 64 || expectedD.bitLength() >= 64) {
+            thrown.expect(ArithmeticException.class);
+        }
+        LongRational r = new LongRational(n, d);
+        assertEquals(expectedN.longValue(), r.getLongNumerator());
+        assertEquals(expectedD.longValue(), r.getLongDenominator());
+        assertEquals(r, new LongRational(n, d));
+        assertEquals(r.hashCode(), new LongRational(n, d).hashCode());
+        assertEquals(expectedN + "/" + expectedD, r.toString());
+        if (!fitsInt(r.getLongNumerator())) {
+            thrown.expect(ArithmeticException.class);
+            r.getNumerator();
+        }
+    }
+
+    @Property
+    public void longRationalArithmetic(long n1, long d1, long n2, long d2) {
+        if (d1 == 0 || d2 == 0 || d1 == Long.MIN_VALUE || d2 == Long.MIN_VALUE) return;
+        LongRational r1 = new LongRational(n1, d1);
+        LongRational r2 = new LongRational(n2, d2);
+        BigInteger bn1 = r1.getBigNumerator(), bd1 = r1.getBigDenominator(), bn2 = r2.getBigNumerator(), bd2 = r2.getBigDenominator();
+        assertValue(bn1.multiply(bd2).add(bn2.multiply(bd1)), bd1.multiply(bd2), r1.add(r2));
+        assertValue(bn1.multiply(bd2).subtract(bn2.multiply(bd1)), bd1.multiply(bd2), r1.sub(r2));
+        assertValue(bn1.multiply(bn2), bd1.multiply(bd2), r1.mul(r2));
+        assertValue(bn1.negate(), bd1, r1.negate());
+        if (n2 != 0) {
+            assertValue(bn1.multiply(bd2), bd1.multiply(bn2), r1.div(r2));
+            assertValue(bd2, bn2, r2.invert());
+        }
+    }
+
+    @Property
+    public void bigRational(long n1, long n2, long d) {
+        if (d == 0) return;
+        BigRational r = new BigRational(big(n1).multiply(big(n2)), big(d));
+        assertEquals(r, new BigRational(big(n1).multiply(big(n2)).negate(), big(d).negate()));
+        assertTrue(r.getBigDenominator().signum() > 0);
+        assertEquals(BigInteger.ONE, r.getBigNumerator().gcd(r.getBigDenominator()).max(BigInteger.ONE));
+        IRational back = r.mulExact(new BigRational(big(d), BigInteger.ONE)).divExact(new LongRational(n2 == 0 ? 1 : n2, 1));
+        assertValue(n2 == 0 ? BigInteger.ZERO : big(n1), BigInteger.ONE, back);
+    }
+
+    @Property
+    public void divExactZeroFail(@GenRat Rational r) {
+        thrown.expect(IllegalArgumentException.class);
+        r.divExact(new LongRational(0, 1));
+    }
+
+    @Property
+    public void addExactFail(@GenSim SimplifiedRational r) {
+        thrown.expect(IllegalArgumentException.class);
+        r.addExact(null);
+    }
+}
@@ -0,0 +1,96 @@
+package com.cooksys.ftd.assignments.objects;
+
+import com.pholser.junit.quickcheck.Property;
+import com.pholser.junit.quickcheck.When;
+import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+
+import java.math.BigInteger;
+
+import static com.cooksys.ftd.assignments.objects.RationalAssertions.assertValue;
+import static org.junit.Assert.*;
+
+@RunWith(JUnitQuickcheck.class)
+public class LazyRationalProperties {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Property
+    public void constructorFail(long n) {
+        thrown.expect(IllegalArgumentException.class);
+        new LazyRational(n, 0);
+    }
+
+    @Property
+    public void observesSimplifiedForm(int n, @When(satisfies = "#_ != 0") int d) {
+        LazyRational r = new LazyRational(n, d);
+        SimplifiedRational s = new SimplifiedRational(n, d);
+        LongRational l = new LongRational(n, d);
+        assertEquals(l.getLongNumerator(), r.getLongNumerator());
+        assertEquals(l.getLongDenominator(), r.getLongDenominator());
+        assertEquals(l.toString(), r.toString());
+        assertValue(s, r);
+        assertEquals(r, new LazyRational(2L * n, 2L * d));
+        assertEquals(r.hashCode(), new LazyRational(-2L * n, -2L * d).hashCode());
+        assertNotEquals(r, s);
+    }
+
+    @Property
+    public void matchesExactArithmetic(@GenSim SimplifiedRational s1, @GenRat Rational r2, @GenSim SimplifiedRational s3) {
+        LazyRational l1 = new LazyRational(s1.getNumerator(), s1.getDenominator());
+        IRational expected = s1.addExact(r2).mulExact(s3).subExact(r2).mulExact(s1);
+        IRational actual = l1.add(r2).mul(s3).sub(r2).mul(l1);
+        assertValue(expected, actual);
+        assertValue(s1.negate(), l1.negate());
+        if (s3.getNumerator() != 0) {
+            assertValue(expected.divExact(s3), actual.div(s3));
+            assertValue(s3.invert(), new LazyRational(s3.getNumerator(), s3.getDenominator()).invert());
+        }
+    }
+
+    @Property
+    public void staysLazyUntilOverflow(@InRange(min = "1", max = "200") int count) {
+        // the raw denominator of 1/2 + 1/2 + ... doubles each time, and is only reduced once it would overflow
+        IRational sum = new LazyRational(0, 1);
+        IRational half = new LazyRational(1, 2);
+        for (int i = 0; i < count; i++) {
+            sum = sum.add(half);
+        }
+        assertTrue(sum instanceof LazyRational);
+        assertEquals(new LazyRational(count, 2), sum);
+        assertEquals(count % 2 == 0 ? count / 2 : count, sum.getNumerator());
+        assertEquals(count % 2 == 0 ? 1 : 2, sum.getDenominator());
+    }
+
+    @Property
+    public void divFail(long n, @When(satisfies = "#_ != 0") long d) {
+        thrown.expect(IllegalArgumentException.class);
+        new LazyRational(n, d).div(new LazyRational(0, d));
+    }
+
+    private static final long[] EDGES = {Long.MIN_VALUE, Long.MIN_VALUE + 1, -3, -1, 1, 2, Long.MAX_VALUE};
+
+    @Property
+    public void handlesWideReducedForms(@InRange(min = "0", max = "6") int i, @InRange(min = "0", max = "6") int j,
+                                        @GenSim SimplifiedRational s) {
+        // 1 / Long.MIN_VALUE and the like reduce to a denominator of 2^63, which only fits in a BigRational
+        LazyRational l = new LazyRational(EDGES[i], EDGES[j]);
+        BigRational b = new BigRational(BigInteger.valueOf(EDGES[i]), BigInteger.valueOf(EDGES[j]));
+        LazyRational third = new LazyRational(1, 3);
+        assertEquals(0, l.compareTo(b));
+        assertEquals(0, b.compareTo(l));
+        assertEquals(Integer.signum(b.compareTo(s)), Integer.signum(l.compareTo(s)));
+        assertEquals(b.toDouble(), l.toDouble(), 0.0);
+        assertEquals(RationalFormat.format(b, new StringBuilder()).toString(),
+                RationalFormat.format(l, new StringBuilder()).toString());
+        assertValue(b.addExact(third), l.add(third));
+        assertValue(b.subExact(s), l.sub(s));
+        assertValue(b.mulExact(third), l.mul(third));
+        assertValue(b.divExact(third), l.div(third));
+        assertValue(b.addExact(s), s.addExact(l));
+        assertValue(b.mulExact(s), new RationalAccumulator(s).mul(l).toRational());
+    }
+}
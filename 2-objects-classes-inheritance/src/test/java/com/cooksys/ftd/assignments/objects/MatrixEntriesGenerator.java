@@ -0,0 +1,29 @@
+package com.cooksys.ftd.assignments.objects;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+
+/**
+ * The entries of a square matrix of 1 to 7 rows, small values with plenty of zeros to exercise pivoting
+ */
+public class MatrixEntriesGenerator extends Generator<IRational[][]> {
+
+    public MatrixEntriesGenerator() {
+        super(IRational[][].class);
+    }
+
+    @Override
+    public IRational[][] generate(SourceOfRandomness random, GenerationStatus status) {
+        int size = random.nextInt(1, 7);
+        IRational[][] entries = new IRational[size][size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                int n = random.nextInt(0, 3) == 0 ? 0 : random.nextInt(-20, 20);
+                int d = random.nextInt(1, 12);
+                entries[i][j] = random.nextBoolean() ? new Rational(n, random.nextBoolean() ? d : -d) : new SimplifiedRational(n, d);
+            }
+        }
+        return entries;
+    }
+}
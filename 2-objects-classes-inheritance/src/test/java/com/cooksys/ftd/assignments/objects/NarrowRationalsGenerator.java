@@ -0,0 +1,29 @@
+package com.cooksys.ftd.assignments.objects;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+
+/**
+ * Up to 40 unsimplified values with `int` numerators and denominators, which RationalArray keeps on its fast path
+ */
+public class NarrowRationalsGenerator extends Generator<IRational[]> {
+
+    public NarrowRationalsGenerator() {
+        super(IRational[].class);
+    }
+
+    @Override
+    public IRational[] generate(SourceOfRandomness random, GenerationStatus status) {
+        IRational[] values = new IRational[random.nextInt(0, 40)];
+        for (int i = 0; i < values.length; i++) {
+            int n = random.nextInt();
+            int d;
+            do {
+                d = random.nextInt();
+            } while (d == 0);
+            values[i] = new Rational(n, d);
+        }
+        return values;
+    }
+}
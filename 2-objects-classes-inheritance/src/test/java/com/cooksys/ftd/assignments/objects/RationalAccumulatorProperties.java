@@ -0,0 +1,93 @@
+package com.cooksys.ftd.assignments.objects;
+
+import com.pholser.junit.quickcheck.Property;
+import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+
+import java.math.BigInteger;
+
+import static com.cooksys.ftd.assignments.objects.RationalAssertions.assertValue;
+import static org.junit.Assert.*;
+
+@RunWith(JUnitQuickcheck.class)
+public class RationalAccumulatorProperties {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Property
+    public void matchesExactArithmetic(@GenSim SimplifiedRational r1, @GenRat Rational r2, @GenSim SimplifiedRational r3) {
+        IRational expected = r1.addExact(r2).mulExact(r3).subExact(r1);
+        RationalAccumulator acc = new RationalAccumulator(r1).add(r2).mul(r3).sub(r1);
+        assertValue(expected, acc.toRational());
+        assertEquals(acc.toRational(), acc.toRational());
+
+        if (r3.getNumerator() != 0) {
+            assertValue(expected.divExact(r3), acc.div(r3).toRational());
+        }
+    }
+
+    @Property
+    public void resultsHavePositiveDenominators(int n, @InRange(min = "1") int d, @GenSim SimplifiedRational r) {
+        // the same value reached with either sign on the denominator gives the same result
+        assertEquals(new RationalAccumulator(-(long) n, d).toRational(), new RationalAccumulator(n, -(long) d).toRational());
+        assertEquals(new RationalAccumulator(r).add(n, d).toRational(), new RationalAccumulator(r).sub(n, -(long) d).toRational());
+        assertTrue(new RationalAccumulator(n, -(long) d).toRational().getBigDenominator().signum() > 0);
+    }
+
+    @Property
+    public void sumsManySmallValues(@InRange(min = "1", max = "200") int count) {
+        // the harmonic numbers leave the long range after 46 terms
+        RationalAccumulator acc = new RationalAccumulator();
+        IRational expected = new SimplifiedRational(0, 1);
+        for (int i = 1; i <= count; i++) {
+            acc.add(1, i);
+            expected = expected.addExact(new SimplifiedRational(1, i));
+        }
+        assertEquals(expected.getBigNumerator(), acc.toRational().getBigNumerator());
+        assertEquals(expected.getBigDenominator(), acc.toRational().getBigDenominator());
+
+        // and coming back down switches back to longs
+        for (int i = count; i >= 1; i--) {
+            acc.sub(1, i);
+        }
+        assertEquals(SimplifiedRational.valueOf(0, 1), acc.toRational());
+        assertEquals(0, acc.signum());
+    }
+
+    @Property
+    public void wideValues(long n1, @InRange(min = "1") long d1, long n2, @InRange(min = "1") long d2) {
+        BigInteger bn1 = BigInteger.valueOf(n1), bd1 = BigInteger.valueOf(d1);
+        BigInteger bn2 = BigInteger.valueOf(n2), bd2 = BigInteger.valueOf(d2);
+        RationalAccumulator acc = new RationalAccumulator(n1, d1);
+        acc.add(n2, d2).mul(n2, d2).sub(n1, d1);
+        BigInteger n = bn1.multiply(bd2).add(bn2.multiply(bd1)).multiply(bn2).multiply(bd1).subtract(bn1.multiply(bd1).multiply(bd2).multiply(bd2));
+        BigInteger d = bd1.multiply(bd2).multiply(bd2).multiply(bd1);
+        assertValue(new BigRational(n, d), acc.toRational());
+        assertEquals(n.signum(), acc.signum());
+    }
+
+    @Property
+    public void combinesAccumulators(@GenRat Rational r1, @GenRat Rational r2) {
+        RationalAccumulator a = new RationalAccumulator(r1);
+        RationalAccumulator b = new RationalAccumulator(r2);
+        assertValue(r1.addExact(r2), new RationalAccumulator(r1).add(b).toRational());
+        assertValue(r1.mulExact(r2), a.mul(b).toRational());
+        assertValue(r2, b.toRational());
+        assertValue(r1.addExact(r1), new RationalAccumulator(r1).add(new RationalAccumulator(r1)).toRational());
+    }
+
+    @Property
+    public void divFail(@GenRat Rational r) {
+        thrown.expect(IllegalArgumentException.class);
+        new RationalAccumulator(r).div(0, 1);
+    }
+
+    @Property
+    public void constructorFail(long n) {
+        thrown.expect(IllegalArgumentException.class);
+        new RationalAccumulator(n, 0);
+    }
+}
@@ -0,0 +1,173 @@
+package com.cooksys.ftd.assignments.objects;
+
+import com.pholser.junit.quickcheck.Property;
+import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+
+import static com.cooksys.ftd.assignments.objects.RationalAssertions.assertValue;
+import static org.junit.Assert.*;
+
+@RunWith(JUnitQuickcheck.class)
+public class RationalArrayProperties {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static boolean fitsLong(IRational r) {
+        return r.getBigNumerator().bitLength() < Long.SIZE && r.getBigDenominator().bitLength() < Long.SIZE;
+    }
+
+    @Property
+    public void elementWise(@GenNarrow IRational[] a, @GenNarrow IRational[] b) {
+        checkElementWise(a, b, false);
+    }
+
+    @Property
+    public void elementWiseWide(@GenWide IRational[] a, @GenNarrow IRational[] b) {
+        checkElementWise(a, b, true);
+    }
+
+    private static void checkElementWise(IRational[] a, IRational[] b, boolean wide) {
+        int length = Math.min(a.length, b.length);
+        a = Arrays.copyOf(a, length);
+        b = Arrays.copyOf(b, length);
+        for (int op = 0; op < 3; op++) {
+            RationalArray array = RationalArray.of(a);
+            IRational[] expected = new IRational[length];
+            boolean overflows = false;
+            for (int i = 0; i < length; i++) {
+                expected[i] = op == 0 ? a[i].addExact(b[i]) : op == 1 ? a[i].subExact(b[i]) : a[i].mulExact(b[i]);
+                overflows |= !fitsLong(expected[i]);
+            }
+            try {
+                if (op == 0) array.add(RationalArray.of(b));
+                else if (op == 1) array.sub(RationalArray.of(b));
+                else array.mul(RationalArray.of(b));
+                assertFalse(overflows);
+            } catch (ArithmeticException e) {
+                assertTrue(overflows);
+                continue;
+            }
+            for (int i = 0; i < length; i++) {
+                assertValue(expected[i], array.get(i));
+            }
+        }
+        if (!wide) {
+            RationalArray quotient = RationalArray.of(a);
+            boolean zero = false;
+            for (IRational r : b) zero |= r.getNumerator() == 0;
+            if (!zero) {
+                quotient.div(RationalArray.of(b));
+                for (int i = 0; i < length; i++) {
+                    assertValue(a[i].divExact(b[i]), quotient.get(i));
+                }
+            }
+        }
+    }
+
+    @Property
+    public void scalar(@GenNarrow IRational[] a, @GenRat Rational s) {
+        RationalArray sum = RationalArray.of(a).add(s);
+        RationalArray difference = RationalArray.of(a).sub(s);
+        RationalArray product = RationalArray.of(a).mul(s);
+        for (int i = 0; i < a.length; i++) {
+            assertValue(a[i].addExact(s), sum.get(i));
+            assertValue(a[i].subExact(s), difference.get(i));
+            assertValue(a[i].mulExact(s), product.get(i));
+        }
+    }
+
+    @Property
+    public void sumAndNormalize(@GenNarrow IRational[] a) {
+        checkSumAndNormalize(a);
+    }
+
+    @Property
+    public void sumAndNormalizeWide(@GenWide IRational[] a) {
+        checkSumAndNormalize(a);
+    }
+
+    private static void checkSumAndNormalize(IRational[] a) {
+        IRational expected = new SimplifiedRational(0, 1);
+        for (IRational r : a) expected = expected.addExact(r);
+        RationalArray array = RationalArray.of(a);
+        assertValue(expected, array.sum());
+
+        array.normalize();
+        for (int i = 0; i < a.length; i++) {
+            assertTrue(array.getDenominator(i) > 0);
+            assertEquals(1, RationalArithmetic.gcd(array.getNumerator(i), array.getDenominator(i)));
+            assertValue(a[i], array.get(i));
+        }
+    }
+
+    @Property
+    public void selfOperations(@GenNarrow IRational[] a) {
+        RationalArray array = RationalArray.of(a);
+        boolean zero = false;
+        for (IRational r : a) zero |= r.getNumerator() == 0;
+        if (zero) return;
+        array.div(array);
+        for (int i = 0; i < a.length; i++) {
+            assertValue(SimplifiedRational.valueOf(1, 1), array.get(i));
+        }
+    }
+
+    @Property
+    public void usableAfterOverflow(@InRange(min = "1", max = "1000") int n, @InRange(min = "2", max = "1000") int m,
+                                    @GenRat Rational s) {
+        RationalArray array = RationalArray.of(new Rational(n, 1), new Rational(m, 1));
+        RationalArray factors = new RationalArray(2);
+        factors.set(0, 1L << 40, 1);
+        factors.set(1, Long.MAX_VALUE, 1);
+        try {
+            array.mul(factors);
+            fail();
+        } catch (ArithmeticException e) {
+            // the first element is updated, the second keeps its value
+            assertValue(new LongRational((long) n << 40, 1), array.get(0));
+            assertValue(new Rational(m, 1), array.get(1));
+        }
+
+        // the array is wide now, so the next operation must not wrap around
+        IRational[] before = {array.get(0), array.get(1)};
+        try {
+            array.mul(s);
+            for (int i = 0; i < before.length; i++) {
+                assertValue(before[i].mulExact(s), array.get(i));
+            }
+        } catch (ArithmeticException e) {
+            assertFalse(fitsLong(before[0].mulExact(s)) && fitsLong(before[1].mulExact(s)));
+        }
+
+        // only the reduced denominator overflows
+        RationalArray quotient = new RationalArray(1);
+        quotient.set(0, 3, 1L << 40);
+        try {
+            quotient.mul(new LongRational(n, 1L << 40));
+            fail();
+        } catch (ArithmeticException e) {
+            assertValue(new LongRational(3, 1L << 40), quotient.get(0));
+        }
+    }
+
+    @Property
+    public void conversions(@GenSim SimplifiedRational r1, @GenRat Rational r2) {
+        RationalArray array = RationalArray.of(r1, r2);
+        assertArrayEquals(new SimplifiedRational[]{r1, new SimplifiedRational(r2.getNumerator(), r2.getDenominator())},
+                array.toSimplifiedRationals());
+        Rational[] rationals = array.toRationals();
+        assertEquals(r2, rationals[1]);
+        assertValue(r1, rationals[0]);
+    }
+
+    @Property
+    public void lengthFail(@InRange(min = "0", max = "10") int length) {
+        thrown.expect(IllegalArgumentException.class);
+        new RationalArray(length).add(new RationalArray(length + 1));
+    }
+}
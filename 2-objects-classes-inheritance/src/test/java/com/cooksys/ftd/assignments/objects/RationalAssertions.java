@@ -0,0 +1,18 @@
+package com.cooksys.ftd.assignments.objects;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Assertions on the values of rationals, whatever their class and form
+ */
+final class RationalAssertions {
+
+    private RationalAssertions() {
+    }
+
+    // actual has the same value as expected, compared by cross-multiplication so that neither needs to be reduced
+    static void assertValue(IRational expected, IRational actual) {
+        assertEquals(expected.getBigNumerator().multiply(actual.getBigDenominator()),
+                actual.getBigNumerator().multiply(expected.getBigDenominator()));
+    }
+}
@@ -0,0 +1,191 @@
+package com.cooksys.ftd.assignments.objects;
+
+import com.pholser.junit.quickcheck.Property;
+import com.pholser.junit.quickcheck.When;
+import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnitQuickcheck.class)
+public class RationalCodecProperties {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Property
+    public void roundTripsValues(long n, @When(satisfies = "#_ != 0") long d, @GenRat Rational r) throws IOException {
+        LongRational l = new LongRational(n, d);
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        RationalCodec.write(l, buffer);
+        RationalCodec.write(r, buffer);
+        assertEquals(RationalCodec.encodedLength(l) + RationalCodec.encodedLength(r), buffer.position());
+        buffer.flip();
+        assertEquals(0, l.compareTo(RationalCodec.read(buffer)));
+        assertEquals(0, r.compareTo(RationalCodec.read(buffer)));
+        assertFalse(buffer.hasRemaining());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RationalCodec.write(l, new DataOutputStream(bytes));
+        RationalCodec.write(r, new DataOutputStream(bytes));
+        assertArrayEquals(Arrays.copyOf(buffer.array(), buffer.limit()), bytes.toByteArray());
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        assertEquals(0, l.compareTo(RationalCodec.read(in)));
+        assertEquals(0, r.compareTo(RationalCodec.read(in)));
+    }
+
+    @Property
+    public void smallValuesAreCompact(@InRange(min = "-64", max = "63") int n, @InRange(min = "1", max = "63") int d) {
+        assertEquals(2, RationalCodec.encodedLength(new Rational(n, d)));
+        assertEquals(2, RationalCodec.encodedLength(new Rational(n, -d)));
+        assertEquals(20, RationalCodec.encodedLength(new LongRational(Long.MIN_VALUE, Long.MAX_VALUE)));
+    }
+
+    @Property
+    public void roundTripsArrays(@GenWide IRational[] values, @InRange(min = "1", max = "50") int copies) throws IOException {
+        // repeated, so that long arrays span several of the blocks writeArray(DataOutput) writes
+        int length = values.length * copies;
+        RationalArray array = new RationalArray(length);
+        for (int i = 0; i < length; i++) {
+            array.set(i, values[i % values.length]);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(RationalCodec.encodedLength(array));
+        RationalCodec.writeArray(array, buffer);
+        assertFalse(buffer.hasRemaining());
+        buffer.flip();
+        RationalArray decoded = RationalCodec.readArray(buffer);
+        assertFalse(buffer.hasRemaining());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RationalCodec.writeArray(array, new DataOutputStream(bytes));
+        assertArrayEquals(buffer.array(), bytes.toByteArray());
+        RationalArray streamed = RationalCodec.readArray(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        buffer.rewind();
+        long[] numerators = new long[length + 3];
+        long[] denominators = new long[length + 3];
+        assertEquals(length, RationalCodec.readArray(buffer, numerators, denominators, 3));
+
+        assertEquals(length, decoded.length());
+        assertEquals(length, streamed.length());
+        for (int i = 0; i < length; i++) {
+            // values keep their raw form
+            assertEquals(array.getNumerator(i), decoded.getNumerator(i));
+            assertEquals(array.getDenominator(i), decoded.getDenominator(i));
+            assertEquals(array.getNumerator(i), streamed.getNumerator(i));
+            assertEquals(array.getDenominator(i), streamed.getDenominator(i));
+            assertEquals(array.getNumerator(i), numerators[i + 3]);
+            assertEquals(array.getDenominator(i), denominators[i + 3]);
+        }
+    }
+
+    @Property
+    public void writeOverflowWritesNothing(@GenWide IRational[] values, @GenRat Rational r) {
+        RationalArray array = RationalArray.of(values);
+        ByteBuffer buffer = ByteBuffer.allocate(RationalCodec.encodedLength(array) + 1);
+        buffer.put((byte) 0x55);
+        buffer.put((byte) 0x55);
+        try {
+            RationalCodec.writeArray(array, buffer);
+            fail();
+        } catch (BufferOverflowException e) {
+            assertEquals(2, buffer.position());
+        }
+        thrown.expect(BufferOverflowException.class);
+        RationalCodec.write(r, ByteBuffer.allocate(RationalCodec.encodedLength(r) - 1));
+    }
+
+    @Property
+    public void truncatedReadFails(@GenWide IRational[] values) {
+        RationalArray array = RationalArray.of(values);
+        ByteBuffer buffer = ByteBuffer.allocate(RationalCodec.encodedLength(array));
+        RationalCodec.writeArray(array, buffer);
+        buffer.flip();
+        buffer.limit(buffer.limit() - 1);
+        try {
+            RationalCodec.readArray(buffer);
+            fail();
+        } catch (BufferUnderflowException e) {
+            assertEquals(0, buffer.position());
+        }
+        thrown.expect(BufferUnderflowException.class);
+        RationalCodec.readArray(buffer, new long[values.length], new long[values.length], 0);
+    }
+
+    @Property
+    public void truncatedStreamFails(long n, @When(satisfies = "#_ != 0") long d) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        RationalCodec.write(new LongRational(n, d), new DataOutputStream(bytes));
+        byte[] encoded = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 1);
+        thrown.expect(EOFException.class);
+        RationalCodec.read(new DataInputStream(new ByteArrayInputStream(encoded)));
+    }
+
+    @Property
+    public void truncatedArrayStreamFails(@InRange(min = "0", max = "10000") int length) throws IOException {
+        // a length of Integer.MAX_VALUE, followed by `length` values of 0 / 1
+        byte[] bytes = new byte[5 + 2 * length];
+        bytes[0] = bytes[1] = bytes[2] = bytes[3] = (byte) 0xff;
+        bytes[4] = 0x07;
+        for (int i = 0; i < length; i++) {
+            bytes[6 + 2 * i] = 2;
+        }
+        thrown.expect(EOFException.class);
+        RationalCodec.readArray(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    @Property
+    public void zeroDenominatorFails(@InRange(min = "0", max = "127") int n) {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{(byte) n, 0});
+        try {
+            RationalCodec.read(buffer);
+            fail();
+        } catch (IllegalArgumentException e) {
+            assertEquals(0, buffer.position());
+        }
+    }
+
+    @Property
+    public void overlongVarintFails(@InRange(min = "2", max = "127") int last) {
+        // ten bytes of continuation are too many, and a tenth byte above 1 does not fit in 64 bits
+        byte[] bytes = new byte[12];
+        Arrays.fill(bytes, (byte) 0xff);
+        try {
+            RationalCodec.read(ByteBuffer.wrap(bytes));
+            fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        bytes[9] = (byte) last;
+        thrown.expect(IllegalArgumentException.class);
+        RationalCodec.read(ByteBuffer.wrap(bytes));
+    }
+
+    @Property
+    public void bulkReadChecksBounds(@InRange(min = "1", max = "100") int length) {
+        RationalArray array = new RationalArray(length);
+        ByteBuffer buffer = ByteBuffer.allocate(RationalCodec.encodedLength(array));
+        RationalCodec.writeArray(array, buffer);
+        buffer.flip();
+        try {
+            RationalCodec.readArray(buffer, new long[length], new long[length], 1);
+            fail();
+        } catch (IndexOutOfBoundsException e) {
+            assertEquals(0, buffer.position());
+        }
+        assertEquals(length, RationalCodec.readArray(buffer, new long[length], new long[length], 0));
+    }
+}
@@ -0,0 +1,121 @@
+package com.cooksys.ftd.assignments.objects;
+
+import com.pholser.junit.quickcheck.Property;
+import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static com.cooksys.ftd.assignments.objects.RationalAssertions.assertValue;
+import static org.junit.Assert.*;
+
+@RunWith(JUnitQuickcheck.class)
+public class RationalFormatProperties {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static String ascii(ByteBuffer buffer, int from, int to) {
+        byte[] bytes = new byte[to - from];
+        for (int i = from; i < to; i++) bytes[i - from] = buffer.get(i);
+        return new String(bytes, StandardCharsets.US_ASCII);
+    }
+
+    @Property
+    public void formatsLikeToString(@GenRat Rational r, @GenSim SimplifiedRational s) {
+        if (r.getNumerator() == Integer.MIN_VALUE || r.getDenominator() == Integer.MIN_VALUE) return;
+        assertEquals(r.toString(), RationalFormat.format(r, new StringBuilder()).toString());
+        assertEquals("x" + s.toString(), RationalFormat.format(s, new StringBuilder("x")).toString());
+
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        buffer.put((byte) 'x');
+        RationalFormat.format(r, buffer);
+        assertEquals(1 + r.toString().length(), buffer.position());
+        assertEquals(r.toString(), ascii(buffer, 1, buffer.position()));
+    }
+
+    @Property
+    public void roundTrips(long n, long d, boolean big) {
+        if (d == 0 || d == Long.MIN_VALUE) return;
+        IRational r = big ? new BigRational(BigInteger.valueOf(n).shiftLeft(70), BigInteger.valueOf(d)) : new LongRational(n, d);
+        String text = RationalFormat.format(r, new StringBuilder()).toString();
+        assertEquals(r.toString(), text);
+        assertValue(r, RationalFormat.parse(text));
+        assertValue(r, RationalFormat.parse("[" + text + "]", 1, text.length() + 1));
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(128);
+        RationalFormat.format(r, buffer);
+        assertEquals(text, ascii(buffer, 0, buffer.position()));
+        assertValue(r, RationalFormat.parse(buffer, 0, buffer.position()));
+        assertEquals(text.length(), buffer.position());
+    }
+
+    @Property
+    public void parsesIntegersAndDecimals(long unscaled, @InRange(min = "0", max = "30") int scale) {
+        BigDecimal value = BigDecimal.valueOf(unscaled, scale);
+        IRational expected = new BigRational(value.unscaledValue(), BigInteger.TEN.pow(scale));
+        assertValue(expected, RationalFormat.parse(value.toPlainString()));
+        if (scale == 0) {
+            assertValue(expected, RationalFormat.parse((unscaled < 0 ? "" : "+") + unscaled + "."));
+        }
+    }
+
+    @Property
+    public void parsesRepeatingDecimals(@InRange(min = "1", max = "5000") int d, @InRange(min = "0", max = "5000") int n) {
+        // n/d written out by long division, with the repeating part found from the first repeated remainder
+        StringBuilder text = new StringBuilder().append(n / d).append('.');
+        int[] seen = new int[d];
+        int remainder = n % d;
+        while (remainder != 0 && seen[remainder] == 0) {
+            seen[remainder] = text.length();
+            remainder *= 10;
+            text.append(remainder / d);
+            remainder %= d;
+        }
+        if (remainder != 0) {
+            text.insert(seen[remainder], '(').append(')');
+        }
+        assertEquals(new SimplifiedRational(n, d), RationalFormat.parse(text));
+        assertEquals(new SimplifiedRational(-n, d), RationalFormat.parse("-" + text));
+    }
+
+    @Property
+    public void examples(boolean negative) {
+        String sign = negative ? "-" : "";
+        int s = negative ? -1 : 1;
+        assertEquals(new SimplifiedRational(s, 3), RationalFormat.parse(sign + "0.(3)"));
+        assertEquals(new SimplifiedRational(s * 611, 495), RationalFormat.parse(sign + "1.2(34)"));
+        assertEquals(new SimplifiedRational(s, 2), RationalFormat.parse(sign + ".5"));
+        assertEquals(new SimplifiedRational(s * 5, 3), RationalFormat.parse(sign + "10/6"));
+        assertEquals(new SimplifiedRational(s, 1), RationalFormat.parse(sign + "0.(9)"));
+        assertValue(new BigRational(BigInteger.valueOf(s), BigInteger.valueOf(3)),
+                RationalFormat.parse(sign + "0.(3333333333333333333333333333333333333333)"));
+        assertValue(new BigRational(BigInteger.TEN.pow(30).multiply(BigInteger.valueOf(s)), BigInteger.valueOf(7)),
+                RationalFormat.parse(sign + "1000000000000000000000000000000/7"));
+    }
+
+    @Property
+    public void parseFail(@InRange(min = "0", max = "12") int which) {
+        String[] invalid = {"", "-", "+", ".", "1/", "/2", "1/0", "1/-2", "1.2.3", "0.()", "0.(3", "1.(3)4", " 1"};
+        thrown.expect(NumberFormatException.class);
+        RationalFormat.parse(invalid[which]);
+    }
+
+    @Property
+    public void formatOverflowFail(@InRange(min = "0", max = "20") int capacity) {
+        // "9223372036854775807/3" takes 21 bytes
+        ByteBuffer buffer = ByteBuffer.allocate(capacity);
+        try {
+            RationalFormat.format(new LongRational(Long.MAX_VALUE, 3), buffer);
+            fail();
+        } catch (BufferOverflowException e) {
+            assertEquals(0, buffer.position());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.cooksys.ftd.assignments.objects;
+
+import com.pholser.junit.quickcheck.Property;
+import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnitQuickcheck.class)
+public class RationalIndexProperties {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private static int signum(IRational r) {
+        return r.getBigNumerator().signum() * r.getBigDenominator().signum();
+    }
+
+    private static int expectedCompare(IRational a, IRational b) {
+        return signum(a.subExact(b));
+    }
+
+    @Property
+    public void compareTo(@GenRat Rational r1, @GenSim SimplifiedRational r2) {
+        assertEquals(expectedCompare(r1, r2), Integer.signum(r1.compareTo(r2)));
+        assertEquals(-Integer.signum(r1.compareTo(r2)), Integer.signum(r2.compareTo(r1)));
+        assertEquals(0, r1.compareTo(new SimplifiedRational(r1.getNumerator(), r1.getDenominator())));
+        assertEquals(0, r1.compareTo(new Rational(-r1.getNumerator(), -r1.getDenominator())));
+    }
+
+    @Property
+    public void compareToWide(long n1, long d1, long n2, long d2) {
+        if (d1 == 0 || d2 == 0 || d1 == Long.MIN_VALUE || d2 == Long.MIN_VALUE) return;
+        IRational r1 = new LongRational(n1, d1);
+        IRational r2 = new BigRational(BigInteger.valueOf(n2).shiftLeft(64), BigInteger.valueOf(d2));
+        assertEquals(expectedCompare(r1, r2), Integer.signum(r1.compareTo(r2)));
+        assertEquals(expectedCompare(r2, r1), Integer.signum(r2.compareTo(r1)));
+        assertEquals(0, r1.compareTo(new BigRational(r1.getBigNumerator(), r1.getBigDenominator())));
+    }
+
+    @Property
+    public void queries(@GenSmall IRational[] array, @GenRat Rational from, @GenRat Rational to,
+                        @InRange(min = "-50", max = "50") int n, @InRange(min = "1", max = "30") int d) {
+        List<IRational> values = new ArrayList<>(Arrays.asList(array));
+        values.add(from);
+        RationalIndex index = new RationalIndex(values);
+        assertEquals(values.size(), index.size());
+        for (int i = 1; i < index.size(); i++) {
+            assertTrue(index.get(i - 1).compareTo(index.get(i)) <= 0);
+        }
+
+        for (IRational key : new IRational[]{from, to, new Rational(n, d)}) {
+            IRational floor = null;
+            IRational ceiling = null;
+            for (IRational value : values) {
+                if (value.compareTo(key) <= 0 && (floor == null || value.compareTo(floor) >= 0)) floor = value;
+                if (value.compareTo(key) >= 0 && (ceiling == null || value.compareTo(ceiling) < 0)) ceiling = value;
+            }
+            assertEquals(floor == null, index.floor(key) == null);
+            assertEquals(ceiling == null, index.ceiling(key) == null);
+            if (floor != null) assertEquals(0, floor.compareTo(index.floor(key)));
+            if (ceiling != null) assertEquals(0, ceiling.compareTo(index.ceiling(key)));
+        }
+
+        int count = 0;
+        for (IRational value : values) {
+            if (value.compareTo(from) >= 0 && value.compareTo(to) <= 0) count++;
+        }
+        assertEquals(count, index.countInRange(from, to));
+    }
+
+    @Property
+    public void compareToFail(@GenRat Rational r) {
+        thrown.expect(IllegalArgumentException.class);
+        r.compareTo(null);
+    }
+}
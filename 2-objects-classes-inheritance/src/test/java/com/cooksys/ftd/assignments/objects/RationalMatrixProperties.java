@@ -0,0 +1,122 @@
+package com.cooksys.ftd.assignments.objects;
+
+import com.pholser.junit.quickcheck.Property;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+
+import static com.cooksys.ftd.assignments.objects.RationalAssertions.assertValue;
+import static org.junit.Assert.*;
+
+@RunWith(JUnitQuickcheck.class)
+public class RationalMatrixProperties {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /**
+     * Laplace expansion along the first row
+     */
+    private static IRational laplace(IRational[][] a) {
+        int n = a.length;
+        if (n == 1) return a[0][0];
+        IRational result = new SimplifiedRational(0, 1);
+        for (int c = 0; c < n; c++) {
+            IRational[][] minor = new IRational[n - 1][n - 1];
+            for (int i = 1; i < n; i++) {
+                for (int j = 0, k = 0; j < n; j++) {
+                    if (j != c) minor[i - 1][k++] = a[i][j];
+                }
+            }
+            IRational term = a[0][c].mulExact(laplace(minor));
+            result = c % 2 == 0 ? result.addExact(term) : result.subExact(term);
+        }
+        return result;
+    }
+
+    private static IRational dot(IRational[] row, IRational[] x) {
+        IRational result = new SimplifiedRational(0, 1);
+        for (int j = 0; j < row.length; j++) {
+            result = result.addExact(row[j].mulExact(x[j]));
+        }
+        return result;
+    }
+
+    @Property
+    public void determinant(@GenEntries IRational[][] a) {
+        int n = a.length;
+        RationalMatrix matrix = new RationalMatrix(a);
+        assertValue(laplace(a), matrix.determinant());
+        assertEquals(n, matrix.getRows());
+        assertEquals(n, matrix.getColumns());
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                assertValue(a[i][j], matrix.get(i, j));
+            }
+        }
+    }
+
+    @Property
+    public void solveAndInverse(@GenEntries IRational[][] a, @GenEntries IRational[][] c) {
+        int n = a.length;
+        // the right-hand side is a row of the other matrix, padded with its first entry if it is too short
+        IRational[] b = Arrays.copyOf(c[0], n);
+        Arrays.fill(b, Math.min(c.length, n), n, c[0][0]);
+        RationalMatrix matrix = new RationalMatrix(a);
+        if (laplace(a).getBigNumerator().signum() == 0) {
+            thrown.expect(IllegalStateException.class);
+            matrix.solve(b);
+        }
+
+        IRational[] x = matrix.solve(b);
+        for (int i = 0; i < n; i++) {
+            assertValue(b[i], dot(a[i], x));
+        }
+
+        RationalMatrix inverse = matrix.inverse();
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                IRational[] column = new IRational[n];
+                for (int k = 0; k < n; k++) column[k] = inverse.get(k, j);
+                assertValue(new SimplifiedRational(i == j ? 1 : 0, 1), dot(a[i], column));
+            }
+        }
+    }
+
+    @Property
+    public void singular(@GenEntries IRational[][] a) {
+        int n = a.length;
+        if (n < 2) return;
+        // the last row is the sum of the first two
+        for (int j = 0; j < n; j++) {
+            a[n - 1][j] = a[0][j].addExact(a[n == 2 ? 0 : 1][j]);
+        }
+        if (n == 2) {
+            for (int j = 0; j < n; j++) a[1][j] = a[0][j].mulExact(new SimplifiedRational(2, 1));
+        }
+        RationalMatrix matrix = new RationalMatrix(a);
+        assertEquals(SimplifiedRational.valueOf(0, 1), matrix.determinant());
+        thrown.expect(IllegalStateException.class);
+        matrix.inverse();
+    }
+
+    @Property
+    public void notSquareFail(@GenEntries IRational[][] a) {
+        // one more column than rows
+        IRational[][] wide = new IRational[a.length][];
+        for (int i = 0; i < a.length; i++) {
+            wide[i] = Arrays.copyOf(a[i], a.length + 1);
+            wide[i][a.length] = a[i][0];
+        }
+        thrown.expect(IllegalStateException.class);
+        new RationalMatrix(wide).determinant();
+    }
+
+    @Property
+    public void raggedFail(@GenRat Rational r) {
+        thrown.expect(IllegalArgumentException.class);
+        new RationalMatrix(new IRational[][]{{r, r}, {r}});
+    }
+}
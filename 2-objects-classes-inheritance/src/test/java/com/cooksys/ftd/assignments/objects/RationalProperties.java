@@ -7,6 +7,9 @@ import org.junit.Rule;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.junit.Assert.*;
 
 @RunWith(JUnitQuickcheck.class)
@@ -55,6 +58,16 @@ public class RationalProperties {
         assertNotEquals(r2, r3);
     }
 
+    @Property
+    public void hashCode(@GenRat Rational r1) {
+        Rational r2 = new Rational(r1.getNumerator(), r1.getDenominator());
+        assertEquals(r1.hashCode(), r2.hashCode());
+
+        Set<Rational> set = new HashSet<>();
+        set.add(r1);
+        assertTrue(set.contains(r2));
+    }
+
     @Property
     public void toString(@GenRat Rational r) {
         int n = r.getNumerator();
@@ -155,4 +168,9 @@ public class RationalProperties {
         int d1 = r1.getDenominator();
         assertEquals(new Rational(n1 * d2, d1 * n2), result);
     }
-}
\ No newline at end of file
+
+    @Property
+    public void specializedArithmeticMatchesDefaults(@GenRat Rational r1, @GenRat Rational r2, @GenSim SimplifiedRational o) {
+        DefaultArithmetic.assertMatchesDefaults(r1, r2, o);
+    }
+}
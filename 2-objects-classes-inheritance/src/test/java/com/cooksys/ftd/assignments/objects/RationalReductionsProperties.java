@@ -0,0 +1,63 @@
+package com.cooksys.ftd.assignments.objects;
+
+import com.pholser.junit.quickcheck.Property;
+import com.pholser.junit.quickcheck.runner.JUnitQuickcheck;
+import org.junit.Rule;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static com.cooksys.ftd.assignments.objects.RationalAssertions.assertValue;
+import static org.junit.Assert.*;
+
+@RunWith(JUnitQuickcheck.class)
+public class RationalReductionsProperties {
+    private static final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Property
+    public void sumsMatchSequential(@GenSmall IRational[] array) {
+        List<IRational> values = Arrays.asList(array);
+        int size = values.size();
+        IRational expected = new SimplifiedRational(0, 1);
+        for (IRational r : values.subList(0, Math.min(size, 200))) expected = expected.addExact(r);
+        assertValue(expected, RationalReductions.sum(values.subList(0, Math.min(size, 200))));
+
+        IRational sum = RationalReductions.sum(values);
+        assertEquals(sum, RationalReductions.parallelSum(values, pool));
+        assertEquals(sum, RationalReductions.parallelSum(values));
+        assertEquals(sum, values.parallelStream().collect(RationalReductions.summing()));
+    }
+
+    @Property
+    public void productsMatchSequential(@GenSmall IRational[] array) {
+        // values close to 1 keep the product from growing too much
+        List<IRational> values = new ArrayList<>();
+        for (IRational r : array) {
+            int d = Math.abs(r.getDenominator());
+            values.add(new SimplifiedRational(d + Integer.signum(r.getNumerator()), d));
+        }
+        IRational product = RationalReductions.product(values);
+        assertEquals(product, RationalReductions.parallelProduct(values, pool));
+        assertEquals(product, values.parallelStream().collect(RationalReductions.multiplying()));
+    }
+
+    @Property
+    public void emptyReductions(boolean parallel) {
+        List<IRational> empty = new ArrayList<>();
+        assertEquals(SimplifiedRational.valueOf(0, 1), parallel ? RationalReductions.parallelSum(empty) : RationalReductions.sum(empty));
+        assertEquals(SimplifiedRational.valueOf(1, 1), parallel ? RationalReductions.parallelProduct(empty) : RationalReductions.product(empty));
+    }
+
+    @Property
+    public void nullFail(@GenRat Rational r) {
+        thrown.expect(IllegalArgumentException.class);
+        RationalReductions.parallelSum(Arrays.asList(r, null), pool);
+    }
+}
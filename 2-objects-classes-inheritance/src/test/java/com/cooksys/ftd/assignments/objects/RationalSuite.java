@@ -5,5 +5,10 @@ import org.junit.runners.Suite;
 import org.junit.runners.Suite.SuiteClasses;
 
 @RunWith(Suite.class)
-@SuiteClasses({ RationalProperties.class, SimplifiedRationalProperties.class })
+@SuiteClasses({ RationalProperties.class, SimplifiedRationalProperties.class, ExactArithmeticProperties.class,
+        RationalAccumulatorProperties.class, RationalArrayProperties.class,
+        RationalReductionsProperties.class, RationalIndexProperties.class,
+        LazyRationalProperties.class, RationalFormatProperties.class,
+        RationalMatrixProperties.class, DoubleConversionProperties.class,
+        RationalCodecProperties.class })
 public class RationalSuite {}
@@ -8,6 +8,9 @@ import org.junit.Rule;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import static com.cooksys.ftd.assignments.objects.SimplifiedRationalGenerator.collapse;
 import static com.cooksys.ftd.assignments.objects.SimplifiedRationalGenerator.euclid;
 import static org.junit.Assert.*;
@@ -75,6 +78,28 @@ public class SimplifiedRationalProperties {
         assertEquals(expected[1], r.getDenominator());
     }
 
+    @Property
+    public void valueOfFail(int n) {
+        thrown.expect(IllegalArgumentException.class);
+        SimplifiedRational.valueOf(n, 0);
+    }
+
+    @Property
+    public void valueOfSuccess(int n, @When(satisfies = "#_ != 0") int d) {
+        int[] expected = collapse(n, d);
+        SimplifiedRational r = SimplifiedRational.valueOf(n, d);
+        assertEquals(expected[0], r.getNumerator());
+        assertEquals(expected[1], r.getDenominator());
+    }
+
+    @Property
+    public void valueOfSharesSmallValues(@InRange(min = "-32", max = "32") int n, @InRange(min = "-32", max = "32") @When(satisfies = "#_ != 0") int d) {
+        SimplifiedRational r = SimplifiedRational.valueOf(n, d);
+        assertEquals(new SimplifiedRational(n, d), r);
+        assertSame(r, SimplifiedRational.valueOf(r.getNumerator(), r.getDenominator()));
+        assertSame(r, r.construct(n, d));
+    }
+
     @Property
     public void equals(@GenSim SimplifiedRational r1) {
         assertNotEquals(r1, 1);
@@ -89,6 +114,16 @@ public class SimplifiedRationalProperties {
         assertNotEquals(r2, r3);
     }
 
+    @Property
+    public void hashCode(@GenSim SimplifiedRational r1) {
+        SimplifiedRational r2 = new SimplifiedRational(r1.getNumerator(), r1.getDenominator());
+        assertEquals(r1.hashCode(), r2.hashCode());
+
+        Set<SimplifiedRational> set = new HashSet<>();
+        set.add(r1);
+        assertTrue(set.contains(r2));
+    }
+
     @Property
     public void toString(@GenSim SimplifiedRational r) {
         int n = r.getNumerator();
@@ -189,4 +224,9 @@ public class SimplifiedRationalProperties {
         int d1 = r1.getDenominator();
         assertEquals(new SimplifiedRational(n1 * r2.getDenominator(), d1 * r2.getNumerator()), result);
     }
+
+    @Property
+    public void specializedArithmeticMatchesDefaults(@GenSim SimplifiedRational r1, @GenSim SimplifiedRational r2, @GenRat Rational o) {
+        DefaultArithmetic.assertMatchesDefaults(r1, r2, o);
+    }
 }
@@ -0,0 +1,27 @@
+package com.cooksys.ftd.assignments.objects;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+
+/**
+ * Up to 5000 Rational and SimplifiedRational values between -40 and 40, with denominators up to 20, so that there
+ * are plenty of equal values and their sums stay small
+ */
+public class SmallRationalsGenerator extends Generator<IRational[]> {
+
+    public SmallRationalsGenerator() {
+        super(IRational[].class);
+    }
+
+    @Override
+    public IRational[] generate(SourceOfRandomness random, GenerationStatus status) {
+        IRational[] values = new IRational[random.nextInt(0, 5000)];
+        for (int i = 0; i < values.length; i++) {
+            int n = random.nextInt(-40, 40);
+            int d = random.nextInt(1, 20);
+            values[i] = random.nextBoolean() ? new Rational(n, d) : new SimplifiedRational(n, -d);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,33 @@
+package com.cooksys.ftd.assignments.objects;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+
+/**
+ * Up to 40 LongRational values, whose numerators and denominators have anywhere from 1 to 64 bits
+ */
+public class WideRationalsGenerator extends Generator<IRational[]> {
+
+    public WideRationalsGenerator() {
+        super(IRational[].class);
+    }
+
+    private static long nextLong(SourceOfRandomness random) {
+        return random.nextLong() >> random.nextInt(0, 63);
+    }
+
+    @Override
+    public IRational[] generate(SourceOfRandomness random, GenerationStatus status) {
+        IRational[] values = new IRational[random.nextInt(0, 40)];
+        for (int i = 0; i < values.length; i++) {
+            long n = nextLong(random);
+            long d;
+            do {
+                d = nextLong(random);
+            } while (d == 0 || d == Long.MIN_VALUE);
+            values[i] = new LongRational(n, d);
+        }
+        return values;
+    }
+}
@@ -13,6 +13,9 @@ public class MegaCorp implements Hierarchy<Capitalist, FatCat> {
 
 	private HashSet<Capitalist> corp = new HashSet<Capitalist>();
 
+	// the direct children of every FatCat in the hierarchy, kept up to date by add
+	private HashMap<FatCat, Set<Capitalist>> children = new HashMap<FatCat, Set<Capitalist>>();
+
 	/**
 	 * Adds a given element to the hierarchy.
 	 * <p>
@@ -39,6 +42,8 @@ public class MegaCorp implements Hierarchy<Capitalist, FatCat> {
 			return false;
 		this.add(capitalist.getParent());
 		corp.add(capitalist);
+		if (capitalist instanceof FatCat) children.putIfAbsent((FatCat) capitalist, new HashSet<Capitalist>());
+		if (capitalist.hasParent()) children.get(capitalist.getParent()).add(capitalist);
 		return true;
 	}
 
@@ -84,15 +89,9 @@ public class MegaCorp implements Hierarchy<Capitalist, FatCat> {
 	 */
 	@Override
 	public Set<Capitalist> getChildren(FatCat fatCat) {
-		HashSet<Capitalist> children = new HashSet<Capitalist>();
-		// if fatCat is null return empty set
-		if (fatCat == null || !(this.has(fatCat))) return children;
-		// Check every capitalist in hierarchy and see if the parent is equal
-		// fatCat if so add it to children
-		corp.forEach(capitalist -> {
-			if (capitalist.hasParent() && capitalist.getParent().equals(fatCat)) children.add(capitalist);
-		});
-		return children;
+		// if fatCat is null or not in the hierarchy return empty set
+		if (fatCat == null || !(this.has(fatCat))) return new HashSet<Capitalist>();
+		return new HashSet<Capitalist>(children.get(fatCat));
 	}
 
 	/**
@@ -103,11 +102,8 @@ public class MegaCorp implements Hierarchy<Capitalist, FatCat> {
 	@Override
 	public Map<FatCat, Set<Capitalist>> getHierarchy() {
 		HashMap<FatCat, Set<Capitalist>> hierarchy = new HashMap<>();
-		corp.forEach(capitalist -> {
-			if (capitalist instanceof FatCat && !(hierarchy.containsKey((FatCat) capitalist))) {
-				hierarchy.put((FatCat) capitalist, this.getChildren((FatCat) capitalist));
-			}
-		});
+		// copy every child set, so that the index cannot be modified through the result
+		children.forEach((fatCat, fatCatChildren) -> hierarchy.put(fatCat, new HashSet<Capitalist>(fatCatChildren)));
 		return hierarchy;
 	}
 
@@ -0,0 +1,50 @@
+package com.cooksys.ftd.assignments.control;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the `Fibonacci` entry points, where `size` is both the index that is looked up and the length of
+ * the slices that are calculated.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FibonacciBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    @Benchmark
+    public int atIndex() {
+        return Fibonacci.atIndex(size);
+    }
+
+    @Benchmark
+    public int[] slice() {
+        return Fibonacci.slice(size, 2 * size);
+    }
+
+    @Benchmark
+    public int[] fibonacci() {
+        return Fibonacci.fibonacci(size);
+    }
+
+    @Benchmark
+    public long streamSum() {
+        return Fibonacci.longStream(size, 2 * size).sum();
+    }
+}
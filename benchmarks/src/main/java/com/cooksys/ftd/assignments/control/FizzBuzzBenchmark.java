@@ -0,0 +1,73 @@
+package com.cooksys.ftd.assignments.control;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the `FizzBuzz` entry points over the range `[1, size]`.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FizzBuzzBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    public int size;
+
+    private StringBuilder builder;
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        builder = new StringBuilder(32 * size);
+        buffer = ByteBuffer.allocate(32 * size);
+    }
+
+    @Benchmark
+    public void message(Blackhole blackhole) {
+        for (int n = 1; n <= size; ++n) {
+            blackhole.consume(FizzBuzz.message(n));
+        }
+    }
+
+    @Benchmark
+    public String[] messages() {
+        return FizzBuzz.messages(1, size + 1);
+    }
+
+    @Benchmark
+    public int writeAppendable() throws IOException {
+        builder.setLength(0);
+        FizzBuzzWriter.DEFAULT.write(1, size + 1, builder);
+        return builder.length();
+    }
+
+    @Benchmark
+    public int writeByteBuffer() {
+        buffer.clear();
+        FizzBuzzWriter.DEFAULT.write(1, size + 1, buffer);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public long count() {
+        return FizzBuzz.countFizz(1, size + 1) + FizzBuzz.countBuzz(1, size + 1) + FizzBuzz.countFizzBuzz(1, size + 1);
+    }
+}
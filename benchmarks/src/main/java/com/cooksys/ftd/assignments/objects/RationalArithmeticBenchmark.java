@@ -0,0 +1,163 @@
+package com.cooksys.ftd.assignments.objects;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the wrapping `add`, `sub`, `mul` and `div` over `size` pairs of small values, all `Rational`, all
+ * `SimplifiedRational`, or mixed. In the mixed case each call site sees `Rational`, `SimplifiedRational` and
+ * `LongRational` receivers and arguments.
+ * <p>
+ * With `arithmetic = specialized`, the values are the real classes and use their final arithmetic methods. With
+ * `arithmetic = defaults`, the values are stand-ins that only implement the getters and `construct`, so every
+ * operation goes through the default methods of `IRational`, as the classes used to. Run with `-prof gc` to
+ * compare allocation rates as well.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RationalArithmeticBenchmark {
+
+    @Param({"specialized", "defaults"})
+    public String arithmetic;
+
+    @Param({"1000"})
+    public int size;
+
+    private IRational[] rationals;
+    private IRational[] simplified;
+    private IRational[] mixed;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        rationals = new IRational[size];
+        simplified = new IRational[size];
+        mixed = new IRational[size];
+        boolean defaults = "defaults".equals(arithmetic);
+        for (int i = 0; i < size; i++) {
+            // non-zero numerators, so that every value can divide, and small enough that nothing wraps around
+            int n = (random.nextInt(1000) + 1) * (random.nextBoolean() ? 1 : -1);
+            int d = random.nextInt(1000) + 1;
+            rationals[i] = defaults ? new DefaultRational(n, d) : new Rational(n, d);
+            simplified[i] = defaults ? new DefaultSimplifiedRational(n, d) : new SimplifiedRational(n, d);
+            switch (i % 3) {
+                case 0:
+                    mixed[i] = rationals[i];
+                    break;
+                case 1:
+                    mixed[i] = simplified[i];
+                    break;
+                default:
+                    mixed[i] = new LongRational(n, d);
+            }
+        }
+    }
+
+    @Benchmark
+    public void rational(Blackhole blackhole) {
+        run(rationals, blackhole);
+    }
+
+    @Benchmark
+    public void simplified(Blackhole blackhole) {
+        run(simplified, blackhole);
+    }
+
+    @Benchmark
+    public void mixed(Blackhole blackhole) {
+        run(mixed, blackhole);
+    }
+
+    private static void run(IRational[] values, Blackhole blackhole) {
+        for (int i = 1; i < values.length; i++) {
+            IRational a = values[i - 1];
+            IRational b = values[i];
+            blackhole.consume(a.add(b));
+            blackhole.consume(a.sub(b));
+            blackhole.consume(a.mul(b));
+            blackhole.consume(a.div(b));
+        }
+    }
+
+    /**
+     * `Rational` as it was before its arithmetic was specialized
+     */
+    private static final class DefaultRational implements IRational {
+        private final int numerator;
+        private final int denominator;
+
+        DefaultRational(int numerator, int denominator) {
+            if (denominator == 0) throw new IllegalArgumentException();
+            this.numerator = numerator;
+            this.denominator = denominator;
+        }
+
+        @Override
+        public int getNumerator() {
+            return this.numerator;
+        }
+
+        @Override
+        public int getDenominator() {
+            return this.denominator;
+        }
+
+        @Override
+        public IRational construct(int numerator, int denominator) {
+            return new DefaultRational(numerator, denominator);
+        }
+    }
+
+    /**
+     * `SimplifiedRational` as it was before its arithmetic was specialized (without the `valueOf` cache, which
+     * small random values rarely hit)
+     */
+    private static final class DefaultSimplifiedRational implements IRational {
+        private final int numerator;
+        private final int denominator;
+
+        DefaultSimplifiedRational(int numerator, int denominator) {
+            if (denominator == 0) throw new IllegalArgumentException();
+            if (numerator == 0) {
+                this.numerator = 0;
+                this.denominator = 1;
+            } else {
+                int gcd = SimplifiedRational.gcd(Math.abs(numerator), Math.abs(denominator));
+                this.numerator = numerator / gcd;
+                this.denominator = denominator / gcd;
+            }
+        }
+
+        @Override
+        public int getNumerator() {
+            return this.numerator;
+        }
+
+        @Override
+        public int getDenominator() {
+            return this.denominator;
+        }
+
+        @Override
+        public IRational construct(int numerator, int denominator) {
+            return new DefaultSimplifiedRational(numerator, denominator);
+        }
+    }
+}
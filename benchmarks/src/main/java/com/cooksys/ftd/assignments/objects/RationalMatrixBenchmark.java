@@ -0,0 +1,119 @@
+package com.cooksys.ftd.assignments.objects;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exact solution of a dense `size x size` system with small fractional entries: `RationalMatrix`'s fraction-free
+ * elimination against textbook Gaussian elimination on `IRational` values (with the exact operations, since the
+ * wrapping ones overflow almost immediately).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RationalMatrixBenchmark {
+
+    @Param({"4", "8", "16"})
+    public int size;
+
+    private IRational[][] entries;
+    private IRational[] b;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        entries = new IRational[size][size];
+        b = new IRational[size];
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                entries[i][j] = new SimplifiedRational(random.nextInt(199) - 99, random.nextInt(99) + 1);
+            }
+            b[i] = new SimplifiedRational(random.nextInt(199) - 99, random.nextInt(99) + 1);
+        }
+    }
+
+    @Benchmark
+    public IRational[] bareissSolve() {
+        return new RationalMatrix(entries).solve(b);
+    }
+
+    @Benchmark
+    public IRational bareissDeterminant() {
+        return new RationalMatrix(entries).determinant();
+    }
+
+    @Benchmark
+    public IRational[] naiveSolve() {
+        IRational[][] m = new IRational[size][];
+        for (int i = 0; i < size; i++) {
+            m[i] = new IRational[size + 1];
+            System.arraycopy(entries[i], 0, m[i], 0, size);
+            m[i][size] = b[i];
+        }
+        eliminate(m);
+        IRational[] x = new IRational[size];
+        for (int i = size - 1; i >= 0; i--) {
+            IRational sum = m[i][size];
+            for (int j = i + 1; j < size; j++) {
+                sum = sum.subExact(m[i][j].mulExact(x[j]));
+            }
+            x[i] = sum.divExact(m[i][i]);
+        }
+        return x;
+    }
+
+    @Benchmark
+    public IRational naiveDeterminant() {
+        IRational[][] m = new IRational[size][];
+        for (int i = 0; i < size; i++) {
+            m[i] = entries[i].clone();
+        }
+        IRational determinant = eliminate(m);
+        for (int i = 0; i < size; i++) {
+            determinant = determinant.mulExact(m[i][i]);
+        }
+        return determinant;
+    }
+
+    /**
+     * Gaussian elimination to upper triangular form, in place
+     *
+     * @return `1` or `-1`, the sign of the row swaps, or `0` if the matrix is singular
+     */
+    private IRational eliminate(IRational[][] m) {
+        IRational sign = new SimplifiedRational(1, 1);
+        for (int k = 0; k < size; k++) {
+            int pivot = k;
+            while (pivot < size && m[pivot][k].getBigNumerator().signum() == 0) pivot++;
+            if (pivot == size) return new SimplifiedRational(0, 1);
+            if (pivot != k) {
+                IRational[] row = m[k];
+                m[k] = m[pivot];
+                m[pivot] = row;
+                sign = sign.negate();
+            }
+            for (int i = k + 1; i < size; i++) {
+                IRational factor = m[i][k].divExact(m[k][k]);
+                for (int j = k; j < m[i].length; j++) {
+                    m[i][j] = m[i][j].subExact(factor.mulExact(m[k][j]));
+                }
+            }
+        }
+        return sign;
+    }
+}